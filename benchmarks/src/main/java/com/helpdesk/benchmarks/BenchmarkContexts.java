@@ -0,0 +1,148 @@
+package com.helpdesk.benchmarks;
+
+import com.helpdesk.ticketservice.TicketServiceApplication;
+import com.helpdesk.ticketstatusservice.TicketStatusServiceApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.PayloadApplicationEvent;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.Enumeration;
+
+// Starts a service's Spring context against a private in-memory H2 database, either without a web
+// server (microbenchmarks) or listening on a local port (load tests). Both service jars are on the
+// classpath, so their application.yml files are ignored and the settings the benchmarks depend on
+// are passed explicitly.
+public final class BenchmarkContexts {
+
+    // R2DBC is on the shared classpath for the status service's reactive profile; as in the services'
+    // application.yml it stays off unless that profile is requested
+    private static final String R2DBC_EXCLUDES = "spring.autoconfigure.exclude="
+            + "org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration,"
+            + "org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration,"
+            + "org.springframework.boot.autoconfigure.data.r2dbc.R2dbcDataAutoConfiguration,"
+            + "org.springframework.boot.autoconfigure.data.r2dbc.R2dbcRepositoriesAutoConfiguration";
+
+    // Mirrors the status service's application-reactive.yml for ticketStatusServiceServer
+    public static final String[] REACTIVE_STATUS_SERVICE_PROPERTIES = {
+            "spring.profiles.active=reactive",
+            "spring.main.web-application-type=reactive",
+            "spring.autoconfigure.exclude=",
+            "spring.r2dbc.url=r2dbc:h2:mem:///statusbench?options=DB_CLOSE_DELAY=-1",
+            "spring.r2dbc.username=sa",
+            "spring.r2dbc.pool.initial-size=4",
+            "spring.r2dbc.pool.max-size=16"};
+
+    private BenchmarkContexts() {
+    }
+
+    // Activates one of a service's profiles together with its application-<profile>.yml. The benchmark
+    // config name does not load that file, and a classpath: location could resolve to the other
+    // service's file of the same name, so it is imported from the jar or directory of the service itself.
+    public static String[] profileProperties(Class<?> application, String profile) {
+        String file = "application-" + profile + ".yml";
+        try {
+            String codeSource = application.getProtectionDomain().getCodeSource().getLocation().toURI().toString();
+            Enumeration<URL> resources = application.getClassLoader().getResources(file);
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                String location = resource.toString();
+                if (location.startsWith(codeSource) || location.startsWith("jar:" + codeSource)) {
+                    return new String[]{"spring.profiles.active=" + profile, "spring.config.import=" + location};
+                }
+            }
+        } catch (IOException | URISyntaxException e) {
+            throw new IllegalStateException("Unable to locate " + file + " of " + application.getSimpleName(), e);
+        }
+        throw new IllegalStateException("No " + file + " next to " + application.getName());
+    }
+
+    // extraProperties override the defaults, e.g. to point the service at another database
+    public static ConfigurableApplicationContext ticketService(String... extraProperties) {
+        return ticketServiceBuilder()
+                .web(WebApplicationType.NONE)
+                .properties("status-outbox.poll-interval-ms=3600000")
+                .properties(extraProperties)
+                .run();
+    }
+
+    public static ConfigurableApplicationContext ticketStatusService(String... extraProperties) {
+        return ticketStatusServiceBuilder()
+                .web(WebApplicationType.NONE)
+                .properties("ticket-events.replay-on-startup=false")
+                .properties(extraProperties)
+                .run();
+    }
+
+    // Serves the ticket service on the given port, relaying statuses and events to statusServiceUrl
+    public static ConfigurableApplicationContext ticketServiceServer(int port, String statusServiceUrl,
+            String... extraProperties) {
+        return ticketServiceBuilder()
+                .web(WebApplicationType.SERVLET)
+                .properties(
+                        "server.port=" + port,
+                        "status-service.base-url=" + statusServiceUrl)
+                .properties(extraProperties)
+                .run();
+    }
+
+    // Serves the status service on the given port, verifying tickets against ticketServiceUrl
+    public static ConfigurableApplicationContext ticketStatusServiceServer(int port, String ticketServiceUrl,
+            String... extraProperties) {
+        return ticketStatusServiceBuilder()
+                .web(WebApplicationType.SERVLET)
+                .properties(
+                        "server.port=" + port,
+                        "ticket-service.base-url=" + ticketServiceUrl,
+                        "ticket-events.replay-on-startup=false")
+                .properties(extraProperties)
+                .run();
+    }
+
+    // Forwards the ticket-created events of a ticket service started with ticket-events.transport=in-process
+    // to the status service's listeners, so the two contexts behave like the services wired over HTTP
+    public static void bridgeTicketEvents(ConfigurableApplicationContext ticketContext,
+                                          ConfigurableApplicationContext statusContext) {
+        ticketContext.addApplicationListener((ApplicationEvent event) -> {
+            if (event instanceof PayloadApplicationEvent<?> payloadEvent
+                    && payloadEvent.getPayload() instanceof com.helpdesk.ticketservice.event.TicketCreatedEvent created) {
+                statusContext.publishEvent(new com.helpdesk.ticketstatusservice.event.TicketCreatedEvent(
+                        created.getTicketId(), created.getCreatedAt()));
+            }
+        });
+    }
+
+    private static SpringApplicationBuilder ticketServiceBuilder() {
+        return new SpringApplicationBuilder(TicketServiceApplication.class)
+                .properties(
+                        "spring.config.name=benchmark",
+                        "spring.main.banner-mode=off",
+                        R2DBC_EXCLUDES,
+                        "logging.level.root=WARN",
+                        "spring.datasource.url=jdbc:h2:mem:ticketbench;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.flyway.locations=classpath:db/migration/tickets",
+                        "spring.jpa.hibernate.ddl-auto=none",
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+                        "spring.jpa.properties.hibernate.order_inserts=true");
+    }
+
+    private static SpringApplicationBuilder ticketStatusServiceBuilder() {
+        return new SpringApplicationBuilder(TicketStatusServiceApplication.class)
+                .properties(
+                        "spring.config.name=benchmark",
+                        "spring.main.banner-mode=off",
+                        R2DBC_EXCLUDES,
+                        "logging.level.root=WARN",
+                        "spring.datasource.url=jdbc:h2:mem:statusbench;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.flyway.locations=classpath:db/migration/status",
+                        "spring.jpa.hibernate.ddl-auto=none",
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+                        "spring.jpa.properties.hibernate.order_inserts=true");
+    }
+}
@@ -0,0 +1,62 @@
+package com.helpdesk.benchmarks;
+
+import com.helpdesk.ticketservice.model.IssueCategory;
+import com.helpdesk.ticketservice.model.Priority;
+import com.helpdesk.ticketservice.model.Ticket;
+import com.helpdesk.ticketstatusservice.dto.CurrentStatusResponse;
+import com.helpdesk.ticketstatusservice.model.TicketStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Deterministic datasets shared by the benchmarks, so results are comparable across commits
+public final class BenchmarkData {
+
+    public static final int EMPLOYEE_COUNT = 500;
+    public static final int HISTORY_DAYS = 30;
+    public static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 1, 1, 8, 0);
+
+    private static final String[] DESCRIPTIONS = {
+            "Laptop screen keeps flickering after the latest driver update",
+            "VPN drops every few minutes when working from home",
+            "Cannot install the accounting software, installer fails with error 1603",
+            "Need access to the shared finance folder for quarter-end reporting"
+    };
+
+    private BenchmarkData() {
+    }
+
+    public static List<Ticket> tickets(int count) {
+        Random random = new Random(42);
+        List<Ticket> tickets = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Ticket ticket = new Ticket();
+            ticket.setTicketId((long) i);
+            ticket.setEmployeeId(1000L + random.nextInt(EMPLOYEE_COUNT));
+            ticket.setEmployeeName("Employee " + ticket.getEmployeeId());
+            ticket.setIssueCategory(IssueCategory.values()[random.nextInt(IssueCategory.values().length)]);
+            ticket.setDescription(DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)]);
+            ticket.setPriority(Priority.values()[random.nextInt(Priority.values().length)]);
+            ticket.setCreatedAt(BASE_TIME.plusMinutes(random.nextInt(HISTORY_DAYS * 24 * 60)));
+            tickets.add(ticket);
+        }
+        return tickets;
+    }
+
+    public static List<CurrentStatusResponse> currentStatuses(int count) {
+        Random random = new Random(42);
+        List<CurrentStatusResponse> statuses = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            CurrentStatusResponse status = new CurrentStatusResponse();
+            status.setTicketId((long) i);
+            status.setCurrentStatus(TicketStatus.values()[random.nextInt(TicketStatus.values().length)]);
+            status.setLastUpdatedBy("support@company.com");
+            status.setLastUpdatedAt(BASE_TIME.plusMinutes(random.nextInt(HISTORY_DAYS * 24 * 60)));
+            status.setDefault(false);
+            statuses.add(status);
+        }
+        return statuses;
+    }
+}
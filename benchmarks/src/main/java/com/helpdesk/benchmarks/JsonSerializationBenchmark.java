@@ -0,0 +1,69 @@
+package com.helpdesk.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.helpdesk.ticketservice.dto.TicketResponse;
+import com.helpdesk.ticketstatusservice.dto.CurrentStatusResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// Response serialization with the same Jackson settings Spring Boot applies in the services
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int itemCount;
+
+    private ObjectWriter ticketListWriter;
+    private ObjectWriter statusListWriter;
+    private List<TicketResponse> tickets;
+    private List<CurrentStatusResponse> statuses;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        ticketListWriter = objectMapper.writerFor(
+                objectMapper.getTypeFactory().constructCollectionType(List.class, TicketResponse.class));
+        statusListWriter = objectMapper.writerFor(
+                objectMapper.getTypeFactory().constructCollectionType(List.class, CurrentStatusResponse.class));
+
+        tickets = BenchmarkData.tickets(itemCount).stream()
+                .map(ticket -> {
+                    TicketResponse response = new TicketResponse();
+                    response.setTicketId(ticket.getTicketId());
+                    response.setEmployeeId(ticket.getEmployeeId());
+                    response.setEmployeeName(ticket.getEmployeeName());
+                    response.setIssueCategory(ticket.getIssueCategory());
+                    response.setDescription(ticket.getDescription());
+                    response.setPriority(ticket.getPriority());
+                    response.setCreatedAt(ticket.getCreatedAt());
+                    return response;
+                })
+                .collect(Collectors.toList());
+        statuses = BenchmarkData.currentStatuses(itemCount);
+    }
+
+    @Benchmark
+    public byte[] serializeTicketResponses() throws Exception {
+        return ticketListWriter.writeValueAsBytes(tickets);
+    }
+
+    @Benchmark
+    public byte[] serializeCurrentStatusResponses() throws Exception {
+        return statusListWriter.writeValueAsBytes(statuses);
+    }
+}
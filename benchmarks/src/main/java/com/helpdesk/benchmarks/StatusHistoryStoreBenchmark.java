@@ -0,0 +1,98 @@
+package com.helpdesk.benchmarks;
+
+import com.helpdesk.ticketstatusservice.dto.StatusHistoryResponse;
+import com.helpdesk.ticketstatusservice.dto.StatusUpdateBatchResponse;
+import com.helpdesk.ticketstatusservice.dto.StatusUpdateRequest;
+import com.helpdesk.ticketstatusservice.event.TicketRegistry;
+import com.helpdesk.ticketstatusservice.model.TicketStatus;
+import com.helpdesk.ticketstatusservice.service.TicketStatusService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Status updates and history reads with status history in H2 through JPA or in the append-only event
+// log. Updates go through TicketStatusService, so each one also bumps its daily counter in H2; every
+// ticket is registered up front, so no call reaches the ticket service.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StatusHistoryStoreBenchmark {
+
+    private static final int TICKET_COUNT = 10_000;
+    private static final int SEEDED_UPDATES_PER_TICKET = 4;
+    private static final int BATCH_SIZE = 100;
+
+    @Param({"jpa", "log"})
+    private String storage;
+
+    private Path logDir;
+    private ConfigurableApplicationContext context;
+    private TicketStatusService ticketStatusService;
+
+    @Setup
+    public void setUp() throws IOException {
+        logDir = Files.createTempDirectory("status-log-benchmark");
+        context = BenchmarkContexts.ticketStatusService(
+                "status-history.storage=" + storage,
+                "status-history.log.dir=" + logDir);
+        ticketStatusService = context.getBean(TicketStatusService.class);
+
+        TicketRegistry ticketRegistry = context.getBean(TicketRegistry.class);
+        for (long ticketId = 1; ticketId <= TICKET_COUNT; ticketId++) {
+            ticketRegistry.register(ticketId, BenchmarkData.BASE_TIME);
+        }
+        for (int i = 0; i < TICKET_COUNT * SEEDED_UPDATES_PER_TICKET; i += BATCH_SIZE) {
+            ticketStatusService.updateTicketStatuses(requests(BATCH_SIZE));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.close();
+        FileSystemUtils.deleteRecursively(logDir);
+    }
+
+    // Concurrent single updates: the event log syncs once for all writers waiting on it
+    @Benchmark
+    @Threads(8)
+    public StatusHistoryResponse updateTicketStatus() {
+        return ticketStatusService.updateTicketStatus(requests(1).get(0));
+    }
+
+    @Benchmark
+    public StatusUpdateBatchResponse updateTicketStatuses() {
+        return ticketStatusService.updateTicketStatuses(requests(BATCH_SIZE));
+    }
+
+    @Benchmark
+    public List<StatusHistoryResponse> getStatusHistory() {
+        return ticketStatusService.getStatusHistory(randomTicketId());
+    }
+
+    private static List<StatusUpdateRequest> requests(int count) {
+        List<StatusUpdateRequest> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StatusUpdateRequest request = new StatusUpdateRequest();
+            request.setTicketId(randomTicketId());
+            request.setStatus(TicketStatus.values()[ThreadLocalRandom.current().nextInt(TicketStatus.values().length)]);
+            request.setUpdatedBy("support@company.com");
+            requests.add(request);
+        }
+        return requests;
+    }
+
+    private static long randomTicketId() {
+        return 1 + ThreadLocalRandom.current().nextInt(TICKET_COUNT);
+    }
+}
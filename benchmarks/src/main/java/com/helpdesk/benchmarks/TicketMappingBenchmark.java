@@ -0,0 +1,37 @@
+package com.helpdesk.benchmarks;
+
+import com.helpdesk.ticketservice.model.Ticket;
+import com.helpdesk.ticketservice.service.TicketMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TicketMappingBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int ticketCount;
+
+    private final TicketMapper ticketMapper = new TicketMapper();
+
+    private List<Ticket> tickets;
+
+    @Setup
+    public void setUp() {
+        tickets = BenchmarkData.tickets(ticketCount);
+    }
+
+    @Benchmark
+    public void toResponse(Blackhole blackhole) {
+        for (Ticket ticket : tickets) {
+            blackhole.consume(ticketMapper.toResponse(ticket));
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.helpdesk.benchmarks;
+
+import com.helpdesk.ticketservice.search.TicketSearchIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Search index queries without the database. Every ticket in the dataset shares one of four
+// descriptions, so each term matches about a quarter of the tickets: a worst case for the index.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class TicketSearchBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int ticketCount;
+
+    private TicketSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        index = new TicketSearchIndex(new SimpleMeterRegistry());
+        index.addAll(BenchmarkData.tickets(ticketCount));
+    }
+
+    @Benchmark
+    public TicketSearchIndex.Hits searchOneTerm() {
+        return index.search("VPN", 20);
+    }
+
+    @Benchmark
+    public TicketSearchIndex.Hits searchSymptom() {
+        return index.search("laptop screen flickering", 20);
+    }
+
+    @Benchmark
+    public TicketSearchIndex.Hits searchDeepPage() {
+        return index.search("VPN drops installer error", 1000);
+    }
+}
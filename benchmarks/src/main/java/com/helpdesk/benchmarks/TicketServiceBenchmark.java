@@ -0,0 +1,90 @@
+package com.helpdesk.benchmarks;
+
+import com.helpdesk.ticketservice.dto.TicketPageResponse;
+import com.helpdesk.ticketservice.dto.TicketResponse;
+import com.helpdesk.ticketservice.model.Priority;
+import com.helpdesk.ticketservice.model.Ticket;
+import com.helpdesk.ticketservice.repository.TicketRepository;
+import com.helpdesk.ticketservice.service.TicketService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// Ticket service read paths and repository finders against H2 with the migrated schema and indexes
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TicketServiceBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int ticketCount;
+
+    private ConfigurableApplicationContext context;
+    private TicketService ticketService;
+    private TicketRepository ticketRepository;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContexts.ticketService();
+        ticketService = context.getBean(TicketService.class);
+        ticketRepository = context.getBean(TicketRepository.class);
+
+        // Seeded over JDBC so createdAt values can be spread over the history window
+        List<Object[]> rows = BenchmarkData.tickets(ticketCount).stream()
+                .map(ticket -> new Object[]{
+                        ticket.getTicketId(), ticket.getEmployeeId(), ticket.getEmployeeName(),
+                        ticket.getIssueCategory().name(), ticket.getDescription(), ticket.getPriority().name(),
+                        Timestamp.valueOf(ticket.getCreatedAt())})
+                .collect(Collectors.toList());
+        context.getBean(JdbcTemplate.class).batchUpdate(
+                "INSERT INTO tickets (ticket_id, employee_id, employee_name, issue_category, description, "
+                        + "priority, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TicketResponse getTicketById() {
+        return ticketService.getTicketById(randomTicketId());
+    }
+
+    @Benchmark
+    public List<TicketResponse> getTicketsByEmployeeId() {
+        return ticketService.getTicketsByEmployeeId(randomEmployeeId());
+    }
+
+    @Benchmark
+    public TicketPageResponse getFirstTicketPage() {
+        return ticketService.getTicketPage(null, 100, null, null);
+    }
+
+    @Benchmark
+    public List<Ticket> findByEmployeeId() {
+        return ticketRepository.findByEmployeeId(randomEmployeeId());
+    }
+
+    @Benchmark
+    public List<Ticket> findByPriority() {
+        return ticketRepository.findByPriority(Priority.HIGH);
+    }
+
+    private long randomTicketId() {
+        return 1 + ThreadLocalRandom.current().nextInt(ticketCount);
+    }
+
+    private long randomEmployeeId() {
+        return 1000L + ThreadLocalRandom.current().nextInt(BenchmarkData.EMPLOYEE_COUNT);
+    }
+}
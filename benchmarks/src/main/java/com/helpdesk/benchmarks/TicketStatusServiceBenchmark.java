@@ -0,0 +1,110 @@
+package com.helpdesk.benchmarks;
+
+import com.helpdesk.ticketstatusservice.dto.StatusSummaryResponse;
+import com.helpdesk.ticketstatusservice.model.TicketStatus;
+import com.helpdesk.ticketstatusservice.model.TicketStatusHistory;
+import com.helpdesk.ticketstatusservice.repository.TicketStatusHistoryRepository;
+import com.helpdesk.ticketstatusservice.service.TicketStatusService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Status summary and history finders against H2 with the migrated schema and indexes
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TicketStatusServiceBenchmark {
+
+    private static final int UPDATES_PER_TICKET = 4;
+    private static final LocalDate FIRST_DAY = BenchmarkData.BASE_TIME.toLocalDate();
+    private static final LocalDate LAST_DAY = FIRST_DAY.plusDays(BenchmarkData.HISTORY_DAYS - 1);
+
+    @Param({"1000", "10000", "100000"})
+    private int ticketCount;
+
+    private ConfigurableApplicationContext context;
+    private TicketStatusService ticketStatusService;
+    private TicketStatusHistoryRepository statusHistoryRepository;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContexts.ticketStatusService();
+        ticketStatusService = context.getBean(TicketStatusService.class);
+        statusHistoryRepository = context.getBean(TicketStatusHistoryRepository.class);
+
+        // Seeded over JDBC so updatedAt values can be spread over the history window
+        Random random = new Random(42);
+        List<Object[]> rows = new ArrayList<>();
+        long id = 1;
+        for (long ticketId = 1; ticketId <= ticketCount; ticketId++) {
+            LocalDateTime updatedAt = BenchmarkData.BASE_TIME.plusMinutes(random.nextInt(24 * 60));
+            for (int i = 0; i < UPDATES_PER_TICKET; i++) {
+                updatedAt = updatedAt.plusHours(random.nextInt(24 * 7));
+                if (updatedAt.toLocalDate().isAfter(LAST_DAY)) {
+                    break;
+                }
+                rows.add(new Object[]{id++, ticketId, TicketStatus.values()[i].name(), "support@company.com",
+                        Timestamp.valueOf(updatedAt)});
+            }
+        }
+        context.getBean(JdbcTemplate.class).batchUpdate(
+                "INSERT INTO ticket_status_history (id, ticket_id, status, updated_by, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?)", rows);
+        ticketStatusService.rebuildStatusSummaries(FIRST_DAY, LAST_DAY);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public StatusSummaryResponse getStatusSummary() {
+        return ticketStatusService.getStatusSummary(randomDay());
+    }
+
+    @Benchmark
+    public List<StatusSummaryResponse> getStatusSummariesForMonth() {
+        return ticketStatusService.getStatusSummaries(FIRST_DAY, LAST_DAY);
+    }
+
+    @Benchmark
+    public List<TicketStatusHistory> findByTicketIdOrderByUpdatedAtDesc() {
+        return statusHistoryRepository.findByTicketIdOrderByUpdatedAtDesc(randomTicketId());
+    }
+
+    @Benchmark
+    public List<TicketStatusHistory> findByUpdatedAtBetween() {
+        LocalDate day = randomDay();
+        return statusHistoryRepository.findByUpdatedAtBetween(day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+    }
+
+    @Benchmark
+    public List<TicketStatusHistory> findLatestByTicketIdIn() {
+        List<Long> ticketIds = new ArrayList<>(100);
+        for (int i = 0; i < 100; i++) {
+            ticketIds.add(randomTicketId());
+        }
+        return statusHistoryRepository.findLatestByTicketIdIn(ticketIds);
+    }
+
+    private long randomTicketId() {
+        return 1 + ThreadLocalRandom.current().nextInt(ticketCount);
+    }
+
+    private LocalDate randomDay() {
+        return FIRST_DAY.plusDays(ThreadLocalRandom.current().nextInt(BenchmarkData.HISTORY_DAYS));
+    }
+}
@@ -0,0 +1,316 @@
+package com.helpdesk.benchmarks.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.helpdesk.benchmarks.BenchmarkContexts;
+import com.helpdesk.ticketservice.TicketServiceApplication;
+import com.helpdesk.ticketstatusservice.TicketStatusServiceApplication;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+// End-to-end load test: starts both services on local ports (or targets running ones), seeds
+// tickets, then issues a weighted mix of requests at a fixed arrival rate.
+//
+// The schedule is open-loop: request n is due at start + n / rate whether or not earlier requests
+// have completed, and its latency is measured from that intended start rather than from when it was
+// actually sent. A stalled service therefore shows up as queueing time in the percentiles instead
+// of silently lowering the offered load (coordinated omission).
+public class LoadTest {
+
+    private static final String[] STATUSES = {"OPEN", "IN_PROGRESS", "RESOLVED", "CLOSED"};
+    private static final String[] CATEGORIES = {"LAPTOP", "NETWORK", "SOFTWARE", "ACCESS"};
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH"};
+    private static final int SEED_BATCH_SIZE = 100;
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final String VIRTUAL_THREADS_PROFILE = "virtual-threads";
+
+    private final LoadTestOptions options;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final KnownTickets knownTickets = new KnownTickets();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ExecutorService httpExecutor = Executors.newFixedThreadPool(16);
+    private final HttpClient httpClient;
+
+    LoadTest(LoadTestOptions options) {
+        this.options = options;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(httpExecutor)
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        List<ConfigurableApplicationContext> contexts = new ArrayList<>();
+        try {
+            if (options.startServices()) {
+                contexts.add(BenchmarkContexts.ticketServiceServer(options.ticketPort(), options.statusBaseUrl(),
+                        threading(options, TicketServiceApplication.class)));
+                // The reactive status service runs on Netty event loops, so the threading mode does not apply to it
+                contexts.add(BenchmarkContexts.ticketStatusServiceServer(options.statusPort(), options.ticketBaseUrl(),
+                        options.reactive() ? BenchmarkContexts.REACTIVE_STATUS_SERVICE_PROPERTIES
+                                : threading(options, TicketStatusServiceApplication.class)));
+            }
+            new LoadTest(options).run();
+        } finally {
+            contexts.forEach(ConfigurableApplicationContext::close);
+        }
+    }
+
+    // The service's own virtual-threads profile in that mode, nothing in the default one
+    private static String[] threading(LoadTestOptions options, Class<?> application) {
+        return options.virtualThreads()
+                ? BenchmarkContexts.profileProperties(application, VIRTUAL_THREADS_PROFILE)
+                : new String[0];
+    }
+
+    void run() throws InterruptedException {
+        System.out.printf("Seeding %d tickets against %s%n", options.seedTickets(), options.ticketBaseUrl());
+        seedTickets();
+
+        System.out.printf("Threading: %s, status service: %s%n",
+                options.virtualThreads() ? "virtual threads" : "platform threads",
+                options.reactive() ? "reactive" : "servlet");
+        for (int rate : options.rates()) {
+            runStage(rate);
+        }
+        httpExecutor.shutdownNow();
+    }
+
+    private void runStage(int rate) throws InterruptedException {
+        System.out.printf("%nRunning %d req/s for %ds (+%ds warm-up), mix %s%n",
+                rate, options.durationSeconds(), options.warmupSeconds(), options.mix());
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long startNanos = System.nanoTime();
+        long measureFromNanos = startNanos + TimeUnit.SECONDS.toNanos(options.warmupSeconds());
+        long endNanos = measureFromNanos + TimeUnit.SECONDS.toNanos(options.durationSeconds());
+        Stage stage = new Stage(endNanos);
+
+        Random random = new Random(options.randomSeed() + rate);
+        Operation[] schedule = weightedSchedule();
+        for (long n = 0; ; n++) {
+            long intendedNanos = startNanos + n * intervalNanos;
+            if (intendedNanos >= endNanos) {
+                break;
+            }
+            long waitNanos = intendedNanos - System.nanoTime();
+            if (waitNanos > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+            Operation operation = schedule[random.nextInt(schedule.length)];
+            send(operation, buildRequest(operation, random), intendedNanos,
+                    intendedNanos >= measureFromNanos ? stage : null);
+        }
+
+        awaitInFlight();
+        report(stage, rate, TimeUnit.NANOSECONDS.toMillis(endNanos - measureFromNanos));
+    }
+
+    // stage is null for warm-up requests, which are sent but not recorded
+    private void send(Operation operation, HttpRequest request, long intendedNanos, Stage stage) {
+        inFlight.incrementAndGet();
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .whenComplete((response, error) -> {
+                    try {
+                        if (stage == null) {
+                            rememberCreatedTicket(operation, response);
+                            return;
+                        }
+                        if (error != null || response.statusCode() >= 400) {
+                            stage.errors.get(operation).incrementAndGet();
+                            return;
+                        }
+                        long completedNanos = System.nanoTime();
+                        long latencyMicros = TimeUnit.NANOSECONDS.toMicros(completedNanos - intendedNanos);
+                        stage.latencies.get(operation).recordValue(Math.min(latencyMicros, HIGHEST_TRACKABLE_MICROS));
+                        if (completedNanos <= stage.endNanos) {
+                            stage.completedInWindow.incrementAndGet();
+                        }
+                        rememberCreatedTicket(operation, response);
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+    }
+
+    private void rememberCreatedTicket(Operation operation, HttpResponse<byte[]> response) {
+        if (operation != Operation.CREATE || response == null || response.statusCode() >= 400) {
+            return;
+        }
+        try {
+            knownTickets.add(objectMapper.readTree(response.body()).get("ticketId").asLong());
+        } catch (IOException e) {
+            // A malformed body is already visible to the service under test; keep driving load
+        }
+    }
+
+    private HttpRequest buildRequest(Operation operation, Random random) {
+        return switch (operation) {
+            case CREATE -> post(options.ticketBaseUrl() + "/tickets/create", ticketJson(random));
+            case UPDATE -> post(options.statusBaseUrl() + "/status/update", String.format(
+                    "{\"ticketId\":%d,\"status\":\"%s\",\"updatedBy\":\"load-test\"}",
+                    knownTickets.pick(random), STATUSES[random.nextInt(STATUSES.length)]));
+            case HISTORY -> get(options.statusBaseUrl() + "/status/" + knownTickets.pick(random) + "/history");
+            case ALL -> get(options.statusBaseUrl() + "/status/all?size=100");
+        };
+    }
+
+    private void seedTickets() {
+        for (int created = 0; created < options.seedTickets(); created += SEED_BATCH_SIZE) {
+            Random random = new Random(options.randomSeed() + created);
+            List<String> tickets = new ArrayList<>();
+            for (int i = created; i < Math.min(created + SEED_BATCH_SIZE, options.seedTickets()); i++) {
+                tickets.add(ticketJson(random));
+            }
+            HttpRequest request = post(options.ticketBaseUrl() + "/tickets/create/batch",
+                    "{\"tickets\":[" + String.join(",", tickets) + "]}");
+            try {
+                HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                if (response.statusCode() >= 400) {
+                    throw new IllegalStateException("Seeding failed with HTTP " + response.statusCode()
+                            + ": " + new String(response.body()));
+                }
+                for (JsonNode ticket : objectMapper.readTree(response.body())) {
+                    knownTickets.add(ticket.get("ticketId").asLong());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Seeding failed", e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while seeding", e);
+            }
+        }
+        if (knownTickets.isEmpty()) {
+            throw new IllegalStateException("--seed-tickets must be at least 1 so updates and reads have targets");
+        }
+    }
+
+    private String ticketJson(Random random) {
+        return String.format(
+                "{\"employeeId\":%d,\"employeeName\":\"Load Test User\",\"issueCategory\":\"%s\","
+                        + "\"description\":\"Generated by the load test harness\",\"priority\":\"%s\"}",
+                1 + random.nextInt(500),
+                CATEGORIES[random.nextInt(CATEGORIES.length)],
+                PRIORITIES[random.nextInt(PRIORITIES.length)]);
+    }
+
+    // One slot per unit of weight, so picking a uniform slot follows the configured mix
+    private Operation[] weightedSchedule() {
+        List<Operation> slots = new ArrayList<>();
+        options.mix().forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                slots.add(operation);
+            }
+        });
+        return slots.toArray(Operation[]::new);
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        long deadline = System.nanoTime() + REQUEST_TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        if (inFlight.get() > 0) {
+            System.out.printf("%d requests still in flight after %ds; they are not counted%n",
+                    inFlight.get(), REQUEST_TIMEOUT.toSeconds());
+        }
+    }
+
+    private void report(Stage stage, int rate, long measuredMillis) {
+        System.out.printf("%-26s %8s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Operation operation : Operation.values()) {
+            if (!options.mix().containsKey(operation)) {
+                continue;
+            }
+            Histogram histogram = stage.latencies.get(operation);
+            System.out.printf("%-26s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    operation.endpoint(),
+                    histogram.getTotalCount(),
+                    stage.errors.get(operation).get(),
+                    histogram.getTotalCount() * 1000.0 / measuredMillis,
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(95)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()));
+        }
+        // Responses received before the stage ended; below the offered rate means the services are
+        // saturated at this load, and the completed rate is their throughput
+        System.out.printf("offered %d req/s, completed %.1f req/s%n", rate,
+                stage.completedInWindow.get() * 1000.0 / measuredMillis);
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static HttpRequest get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).timeout(REQUEST_TIMEOUT).GET().build();
+    }
+
+    private static HttpRequest post(String url, String json) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    // Latencies and errors recorded during the measured part of one rate stage
+    private static final class Stage {
+
+        private final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+        private final Map<Operation, AtomicLong> errors = new EnumMap<>(Operation.class);
+        private final AtomicLong completedInWindow = new AtomicLong();
+        private final long endNanos;
+
+        Stage(long endNanos) {
+            this.endNanos = endNanos;
+            for (Operation operation : Operation.values()) {
+                latencies.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+                errors.put(operation, new AtomicLong());
+            }
+        }
+    }
+
+    // Ticket IDs that updates and history reads can target; grows as creates complete
+    private static final class KnownTickets {
+
+        private final List<Long> ids = new ArrayList<>();
+
+        synchronized void add(long ticketId) {
+            ids.add(ticketId);
+        }
+
+        synchronized long pick(Random random) {
+            return ids.get(random.nextInt(ids.size()));
+        }
+
+        synchronized boolean isEmpty() {
+            return ids.isEmpty();
+        }
+    }
+}
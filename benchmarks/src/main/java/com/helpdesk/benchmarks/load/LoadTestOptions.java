@@ -0,0 +1,92 @@
+package com.helpdesk.benchmarks.load;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Command line options for LoadTest, passed as --name=value
+record LoadTestOptions(
+        List<Integer> rates,
+        int durationSeconds,
+        int warmupSeconds,
+        Map<Operation, Integer> mix,
+        int seedTickets,
+        int ticketPort,
+        int statusPort,
+        String ticketServiceUrl,
+        String statusServiceUrl,
+        boolean virtualThreads,
+        boolean reactive,
+        long randomSeed) {
+
+    static final String DEFAULT_MIX = "create:20,update:40,history:30,all:10";
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        // A comma-separated list runs one stage per rate, e.g. to find the saturation point
+        List<Integer> rates = Arrays.stream(values.getOrDefault("rate", "200").split(","))
+                .map(rate -> Integer.parseInt(rate.trim()))
+                .toList();
+        if (rates.stream().anyMatch(rate -> rate <= 0)) {
+            throw new IllegalArgumentException("--rate must be positive");
+        }
+        int ticketPort = Integer.parseInt(values.getOrDefault("ticket-port", "18080"));
+        int statusPort = Integer.parseInt(values.getOrDefault("status-port", "18081"));
+
+        return new LoadTestOptions(
+                rates,
+                Integer.parseInt(values.getOrDefault("duration", "60")),
+                Integer.parseInt(values.getOrDefault("warmup", "10")),
+                parseMix(values.getOrDefault("mix", DEFAULT_MIX)),
+                Integer.parseInt(values.getOrDefault("seed-tickets", "1000")),
+                ticketPort,
+                statusPort,
+                values.get("ticket-url"),
+                values.get("status-url"),
+                Boolean.parseBoolean(values.getOrDefault("virtual-threads", "false")),
+                Boolean.parseBoolean(values.getOrDefault("reactive", "false")),
+                Long.parseLong(values.getOrDefault("random-seed", "42")));
+    }
+
+    // Services are started in-process unless both URLs point at already running instances
+    boolean startServices() {
+        return ticketServiceUrl == null || statusServiceUrl == null;
+    }
+
+    String ticketBaseUrl() {
+        return startServices() ? "http://localhost:" + ticketPort : ticketServiceUrl;
+    }
+
+    String statusBaseUrl() {
+        return startServices() ? "http://localhost:" + statusPort : statusServiceUrl;
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Mix weights must not be negative: " + entry);
+            }
+            weights.put(Operation.fromName(parts[0].trim()), weight);
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("Mix must contain at least one positive weight");
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,30 @@
+package com.helpdesk.benchmarks.load;
+
+import java.util.Arrays;
+
+// The request types the load test can issue, named as they appear in --mix
+enum Operation {
+    CREATE("create", "POST /tickets/create"),
+    UPDATE("update", "POST /status/update"),
+    HISTORY("history", "GET /status/{id}/history"),
+    ALL("all", "GET /status/all");
+
+    private final String mixName;
+    private final String endpoint;
+
+    Operation(String mixName, String endpoint) {
+        this.mixName = mixName;
+        this.endpoint = endpoint;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    static Operation fromName(String name) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.mixName.equalsIgnoreCase(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown operation in mix: " + name));
+    }
+}
@@ -0,0 +1,206 @@
+package com.helpdesk.benchmarks.startup;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// Cold start of each service in its own JVM, as an autoscaled instance would start, in three modes:
+//  - default:          the plain configuration
+//  - fast-startup:     the fast-startup profile (lazy springdoc beans, deferred JPA bootstrap, warm-up)
+//  - fast-startup+cds: the same with the class-data-sharing archive of the cds build profile
+// For each it measures the time from launching the JVM until /actuator/health/readiness reports UP,
+// and the latency of the first request sent right after that; their sum is the time until a new
+// instance has answered its first request. Medians of --runs starts are reported.
+// Needs the target/cds output of the services' cds build profile; see the README for the options.
+public final class StartupBenchmark {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(5);
+
+    private final int runs;
+    private final int port;
+    private final Duration timeout;
+    private final Path logDir;
+    private final List<Service> services;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    private StartupBenchmark(Map<String, String> options) {
+        runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+        port = Integer.parseInt(options.getOrDefault("port", "18090"));
+        timeout = Duration.ofSeconds(Long.parseLong(options.getOrDefault("timeout-seconds", "120")));
+        logDir = Path.of(options.getOrDefault("log-dir", "target/startup-benchmark")).toAbsolutePath();
+        if (runs < 1) {
+            throw new IllegalArgumentException("--runs must be positive");
+        }
+        services = List.of(
+                new Service("ticket-service", Path.of(options.getOrDefault("ticket-dir", "../ticket-service/target/cds")),
+                        "/tickets?size=20", List.of()),
+                new Service("ticket-status-service",
+                        Path.of(options.getOrDefault("status-dir", "../ticket-status-service/target/cds")),
+                        "/status/summary/" + LocalDate.now(), List.of("--ticket-events.replay-on-startup=false")));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        StartupBenchmark benchmark = new StartupBenchmark(options);
+        Files.createDirectories(benchmark.logDir);
+        List<Result> results = new ArrayList<>();
+        for (Service service : benchmark.services) {
+            for (Mode mode : Mode.values()) {
+                results.add(benchmark.run(service, mode));
+            }
+        }
+
+        System.out.printf("%n%-22s %-17s %11s %19s %23s%n", "service", "mode", "ready (ms)",
+                "first request (ms)", "first response (ms)");
+        for (Result result : results) {
+            System.out.printf("%-22s %-17s %11d %19.1f %23.1f%n", result.service(), result.mode().label,
+                    result.readyMillis(), result.firstRequestMillis(),
+                    result.readyMillis() + result.firstRequestMillis());
+        }
+        System.out.printf("%nJVM output is in %s%n", benchmark.logDir);
+        System.exit(0);
+    }
+
+    private Result run(Service service, Mode mode) throws Exception {
+        Path jar = service.jar();
+        long[] readyNanos = new long[runs];
+        long[] firstRequestNanos = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            System.out.printf("[%s, %s] start %d of %d%n", service.name(), mode.label, i + 1, runs);
+
+            List<String> command = new ArrayList<>();
+            command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+            if (mode == Mode.FAST_STARTUP_CDS) {
+                command.add("-XX:SharedArchiveFile=application.jsa");
+            }
+            command.add("-jar");
+            command.add(jar.getFileName().toString());
+            command.add("--server.port=" + port);
+            // Without the fast-startup profile the probes are only enabled on Kubernetes
+            command.add("--management.endpoint.health.probes.enabled=true");
+            if (mode != Mode.DEFAULT) {
+                command.add("--spring.profiles.active=fast-startup");
+            }
+            command.addAll(service.arguments());
+
+            File log = logDir.resolve(service.name() + "-" + mode.name().toLowerCase() + "-" + (i + 1) + ".log").toFile();
+            long start = System.nanoTime();
+            Process process = new ProcessBuilder(command)
+                    .directory(jar.getParent().toFile())
+                    .redirectErrorStream(true)
+                    .redirectOutput(log)
+                    .start();
+            try {
+                awaitReady(process, start, log);
+                readyNanos[i] = System.nanoTime() - start;
+
+                long requestStart = System.nanoTime();
+                HttpResponse<Void> response = client.send(request(service.firstRequest()),
+                        HttpResponse.BodyHandlers.discarding());
+                firstRequestNanos[i] = System.nanoTime() - requestStart;
+                if (response.statusCode() != 200) {
+                    throw new IllegalStateException(service.firstRequest() + " answered " + response.statusCode()
+                            + ", see " + log);
+                }
+            } finally {
+                stop(process);
+            }
+        }
+        return new Result(service.name(), mode, median(readyNanos) / 1_000_000,
+                median(firstRequestNanos) / 1_000_000.0);
+    }
+
+    private void awaitReady(Process process, long start, File log) throws InterruptedException {
+        HttpRequest readiness = request("/actuator/health/readiness");
+        while (System.nanoTime() - start < timeout.toNanos()) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("The service exited with " + process.exitValue() + ", see " + log);
+            }
+            try {
+                if (client.send(readiness, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(POLL_INTERVAL.toMillis());
+        }
+        throw new IllegalStateException("The service was not ready within " + timeout.toSeconds() + "s, see " + log);
+    }
+
+    private HttpRequest request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(10))
+                .GET()
+                .build();
+    }
+
+    // Graceful shutdown first, so the port is free for the next start
+    private static void stop(Process process) throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private enum Mode {
+        DEFAULT("default"),
+        FAST_STARTUP("fast-startup"),
+        FAST_STARTUP_CDS("fast-startup+cds");
+
+        private final String label;
+
+        Mode(String label) {
+            this.label = label;
+        }
+    }
+
+    private record Service(String name, Path dir, String firstRequest, List<String> arguments) {
+
+        Path jar() throws IOException {
+            Path absolute = dir.toAbsolutePath().normalize();
+            if (!Files.exists(absolute.resolve("application.jsa"))) {
+                throw new IllegalStateException("No CDS archive in " + absolute + "; build it with mvn -Pcds package");
+            }
+            try (Stream<Path> files = Files.list(absolute)) {
+                return files.filter(file -> file.getFileName().toString().endsWith("-cds.jar"))
+                        .findFirst()
+                        .orElseThrow(() -> new IllegalStateException("No -cds.jar in " + absolute));
+            }
+        }
+    }
+
+    private record Result(String service, Mode mode, long readyMillis, double firstRequestMillis) {
+    }
+}
@@ -0,0 +1,224 @@
+package com.helpdesk.benchmarks.storage;
+
+import com.helpdesk.benchmarks.BenchmarkContexts;
+import com.helpdesk.benchmarks.BenchmarkData;
+import com.helpdesk.ticketservice.archive.TicketArchive;
+import com.helpdesk.ticketservice.archive.TicketArchiveJob;
+import com.helpdesk.ticketservice.model.Ticket;
+import com.helpdesk.ticketservice.repository.TicketRepository;
+import com.helpdesk.ticketservice.service.TicketService;
+import com.helpdesk.ticketstatusservice.archive.StatusArchiveJob;
+import com.helpdesk.ticketstatusservice.archive.StatusHistoryArchive;
+import com.helpdesk.ticketstatusservice.repository.StatusHistoryStore;
+import com.helpdesk.ticketstatusservice.repository.TicketStatusHistoryRepository;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// Hot table size and read latency before and after the archive jobs run. --tickets tickets are seeded
+// over JDBC; --archivable-share of them were closed 60 to 90 days ago, the rest are recent and open.
+// Both services run in this JVM, the status service listening on --status-port since the ticket
+// archive job asks it which tickets are closed. The jobs are run directly, once each.
+// Options are passed as --name=value; see the README for the full list.
+public final class ArchiveBenchmark {
+
+    private static final int SEED_BATCH_SIZE = 1000;
+    private static final int READ_SAMPLES = 2000;
+    private static final int LOOKUP_BATCH_SIZE = 100;
+
+    private final int tickets;
+    private final double archivableShare;
+    private final int statusPort;
+    private final Path dataDir;
+
+    private final List<Long> hotIds = new ArrayList<>();
+    private final List<Long> archivableIds = new ArrayList<>();
+
+    private ArchiveBenchmark(Map<String, String> options) {
+        tickets = Integer.parseInt(options.getOrDefault("tickets", "200000"));
+        archivableShare = Double.parseDouble(options.getOrDefault("archivable-share", "0.8"));
+        statusPort = Integer.parseInt(options.getOrDefault("status-port", "18081"));
+        dataDir = Path.of(options.getOrDefault("dir", "target/archive-benchmark")).toAbsolutePath();
+        if (tickets < 2 || archivableShare <= 0 || archivableShare >= 1) {
+            throw new IllegalArgumentException("--tickets must be at least 2 and --archivable-share between 0 and 1");
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        ArchiveBenchmark benchmark = new ArchiveBenchmark(options);
+        System.out.printf("%d tickets, %.0f%% of them closed long enough to be archived%n",
+                benchmark.tickets, benchmark.archivableShare * 100);
+        benchmark.run();
+        System.exit(0);
+    }
+
+    private void run() throws IOException {
+        deleteDataDir();
+        ConfigurableApplicationContext statusContext = BenchmarkContexts.ticketStatusServiceServer(statusPort,
+                "http://localhost:1", // every seeded ticket has history, so no ticket is ever verified
+                "status-archive.enabled=true",
+                "status-archive.dir=" + dataDir.resolve("status-archive"),
+                "status-archive.interval-ms=86400000",
+                "status-archive.max-tickets-per-run=" + tickets);
+        ConfigurableApplicationContext ticketContext = BenchmarkContexts.ticketService(
+                "status-service.base-url=http://localhost:" + statusPort,
+                "ticket-archive.enabled=true",
+                "ticket-archive.dir=" + dataDir.resolve("ticket-archive"),
+                "ticket-archive.interval-ms=86400000",
+                "ticket-archive.max-tickets-per-run=" + tickets);
+        try {
+            System.out.println("\n[seed] tickets and status history");
+            seed(ticketContext.getBean(JdbcTemplate.class), statusContext.getBean(JdbcTemplate.class));
+
+            TicketService ticketService = ticketContext.getBean(TicketService.class);
+            StatusHistoryStore statusHistoryStore = statusContext.getBean(StatusHistoryStore.class);
+            TicketRepository ticketRepository = ticketContext.getBean(TicketRepository.class);
+            TicketStatusHistoryRepository statusHistoryRepository =
+                    statusContext.getBean(TicketStatusHistoryRepository.class);
+
+            System.out.println("[before] measuring reads");
+            long ticketRowsBefore = ticketRepository.count();
+            long statusRowsBefore = statusHistoryRepository.count();
+            Map<String, Double> before = measure(ticketService, statusHistoryStore, hotIds);
+
+            System.out.println("[archive] running the ticket and status archive jobs");
+            long archiveStart = System.nanoTime();
+            ticketContext.getBean(TicketArchiveJob.class).archiveClosedTickets();
+            long ticketArchiveMillis = (System.nanoTime() - archiveStart) / 1_000_000;
+            archiveStart = System.nanoTime();
+            statusContext.getBean(StatusArchiveJob.class).archiveClosedTickets();
+            long statusArchiveMillis = (System.nanoTime() - archiveStart) / 1_000_000;
+
+            System.out.println("[after] measuring reads");
+            Map<String, Double> after = measure(ticketService, statusHistoryStore, hotIds);
+            Map<String, Double> archived = measure(ticketService, statusHistoryStore, archivableIds);
+
+            TicketArchive ticketArchive = ticketContext.getBean(TicketArchive.class);
+            StatusHistoryArchive statusHistoryArchive = statusContext.getBean(StatusHistoryArchive.class);
+            System.out.printf("%n%-22s %12s %12s %12s %12s%n", "table", "rows before", "rows after",
+                    "archive (KB)", "job (ms)");
+            System.out.printf("%-22s %12d %12d %12d %12d%n", "tickets", ticketRowsBefore, ticketRepository.count(),
+                    ticketArchive.sizeInBytes() / 1024, ticketArchiveMillis);
+            System.out.printf("%-22s %12d %12d %12d %12d%n", "ticket_status_history", statusRowsBefore,
+                    statusHistoryRepository.count(), statusHistoryArchive.sizeInBytes() / 1024, statusArchiveMillis);
+
+            System.out.printf("%n%-30s %12s %12s %14s%n", "read (us)", "hot before", "hot after", "archived");
+            for (String read : before.keySet()) {
+                System.out.printf("%-30s %12.1f %12.1f %14.1f%n", read, before.get(read), after.get(read),
+                        archived.get(read));
+            }
+        } finally {
+            ticketContext.close();
+            statusContext.close();
+        }
+    }
+
+    // Archivable tickets get OPEN, IN_PROGRESS, RESOLVED and CLOSED over two days, 60 to 90 days ago;
+    // the rest were opened in the last 20 days and are still in progress
+    private void seed(JdbcTemplate ticketJdbc, JdbcTemplate statusJdbc) {
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> ticketRows = new ArrayList<>();
+        List<Object[]> statusRows = new ArrayList<>();
+        long historyId = 0;
+        for (Ticket ticket : BenchmarkData.tickets(tickets)) {
+            boolean archivable = random.nextDouble() < archivableShare;
+            LocalDateTime createdAt = now.minusMinutes((archivable ? 60 * 24 * 60 : 0)
+                    + random.nextInt((archivable ? 30 : 20) * 24 * 60));
+            (archivable ? archivableIds : hotIds).add(ticket.getTicketId());
+            ticketRows.add(new Object[]{
+                    ticket.getTicketId(), ticket.getEmployeeId(), ticket.getEmployeeName(),
+                    ticket.getIssueCategory().name(), ticket.getDescription(), ticket.getPriority().name(),
+                    Timestamp.valueOf(createdAt)});
+
+            String[] statuses = archivable
+                    ? new String[]{"OPEN", "IN_PROGRESS", "RESOLVED", "CLOSED"}
+                    : new String[]{"OPEN", "IN_PROGRESS"};
+            for (int i = 0; i < statuses.length; i++) {
+                statusRows.add(new Object[]{++historyId, ticket.getTicketId(), statuses[i],
+                        i == 0 ? "system" : "agent-" + random.nextInt(50),
+                        Timestamp.valueOf(createdAt.plusHours(16L * i))});
+            }
+
+            if (ticketRows.size() == SEED_BATCH_SIZE) {
+                insert(ticketJdbc, statusJdbc, ticketRows, statusRows);
+            }
+        }
+        insert(ticketJdbc, statusJdbc, ticketRows, statusRows);
+    }
+
+    private static void insert(JdbcTemplate ticketJdbc, JdbcTemplate statusJdbc, List<Object[]> ticketRows,
+                               List<Object[]> statusRows) {
+        ticketJdbc.batchUpdate("INSERT INTO tickets (ticket_id, employee_id, employee_name, issue_category, "
+                + "description, priority, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)", ticketRows);
+        statusJdbc.batchUpdate("INSERT INTO ticket_status_history (id, ticket_id, status, updated_by, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?)", statusRows);
+        ticketRows.clear();
+        statusRows.clear();
+    }
+
+    // Average latency of each read over random tickets from ids
+    private static Map<String, Double> measure(TicketService ticketService, StatusHistoryStore statusHistoryStore,
+                                               List<Long> ids) {
+        Map<String, Double> averages = new LinkedHashMap<>();
+        averages.put("getTicketById", average(ids, 1, batch -> ticketService.getTicketById(batch.get(0))));
+        averages.put("getTicketsByIds (100)", average(ids, LOOKUP_BATCH_SIZE, ticketService::getTicketsByIds));
+        averages.put("status history",
+                average(ids, 1, batch -> statusHistoryStore.findByTicketIdOrderByUpdatedAtDesc(batch.get(0))));
+        averages.put("latest statuses (100)",
+                average(ids, LOOKUP_BATCH_SIZE, statusHistoryStore::findLatestByTicketIdIn));
+        return averages;
+    }
+
+    private static double average(List<Long> ids, int batchSize, Consumer<List<Long>> read) {
+        long start = System.nanoTime();
+        for (int i = 0; i < READ_SAMPLES; i++) {
+            List<Long> batch = new ArrayList<>(batchSize);
+            for (int j = 0; j < batchSize; j++) {
+                batch.add(ids.get(ThreadLocalRandom.current().nextInt(ids.size())));
+            }
+            read.accept(batch);
+        }
+        return (System.nanoTime() - start) / 1000.0 / READ_SAMPLES;
+    }
+
+    private void deleteDataDir() throws IOException {
+        if (!Files.exists(dataDir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dataDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.delete(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.helpdesk.benchmarks.storage;
+
+import com.helpdesk.benchmarks.BenchmarkContexts;
+import com.helpdesk.benchmarks.BenchmarkData;
+import com.helpdesk.ticketservice.dto.TicketCreateRequest;
+import com.helpdesk.ticketservice.model.Ticket;
+import com.helpdesk.ticketservice.service.TicketService;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// Compares the ticket service on in-memory H2 with the durable profile's H2 file:
+//  - seed:    bulk import of --tickets tickets in batches of 100
+//  - writes:  steady-state single-ticket creates from --writers threads for --write-seconds
+//  - restart: time until the context is ready again, plus (in memory) re-importing the lost data
+//  - reads:   average getTicketById latency right after the restart, before caches are warm
+// Options are passed as --name=value; see the README for the full list.
+public final class StorageBenchmark {
+
+    // Mirrors the H2 settings of the ticket service's application-durable.yml
+    private static final String DURABLE_SETTINGS =
+            ";CACHE_SIZE=262144;WRITE_DELAY=500;MAX_COMPACT_TIME=2000;DB_CLOSE_ON_EXIT=FALSE";
+    private static final int SEED_BATCH_SIZE = 100;
+    private static final int READ_SAMPLES = 1000;
+
+    private final int tickets;
+    private final int descriptionLength;
+    private final int writers;
+    private final int writeSeconds;
+    private final Path dataDir;
+    private int memoryDatabases;
+
+    private StorageBenchmark(Map<String, String> options) {
+        tickets = Integer.parseInt(options.getOrDefault("tickets", "200000"));
+        descriptionLength = Integer.parseInt(options.getOrDefault("description-length", "500"));
+        writers = Integer.parseInt(options.getOrDefault("writers", "4"));
+        writeSeconds = Integer.parseInt(options.getOrDefault("write-seconds", "30"));
+        dataDir = Path.of(options.getOrDefault("dir", "target/storage-benchmark")).toAbsolutePath();
+        if (tickets < 1 || writers < 1 || writeSeconds < 1 || descriptionLength < 10 || descriptionLength > 1000) {
+            throw new IllegalArgumentException("--tickets, --writers and --write-seconds must be positive "
+                    + "and --description-length between 10 and 1000");
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        StorageBenchmark benchmark = new StorageBenchmark(options);
+        System.out.printf("%d tickets with %d-character descriptions, %d writers for %ds%n",
+                benchmark.tickets, benchmark.descriptionLength, benchmark.writers, benchmark.writeSeconds);
+
+        List<Result> results = List.of(benchmark.run(false), benchmark.run(true));
+
+        System.out.printf("%n%-8s %12s %13s %12s %14s %11s %10s%n", "storage", "seed t/s", "writes t/s",
+                "ready (ms)", "data back (ms)", "read (us)", "size (MB)");
+        for (Result result : results) {
+            System.out.printf("%-8s %12.0f %13.0f %12d %14d %11.1f %10s%n", result.storage(),
+                    result.seedPerSecond(), result.writesPerSecond(), result.readyMillis(),
+                    result.dataBackMillis(), result.readMicros(),
+                    result.fileBytes() < 0 ? "-" : String.valueOf(result.fileBytes() / (1024 * 1024)));
+        }
+        System.exit(0);
+    }
+
+    private Result run(boolean durable) throws Exception {
+        String storage = durable ? "file" : "memory";
+        System.out.printf("%n[%s] starting and seeding%n", storage);
+        if (durable) {
+            deleteDataDir();
+        }
+
+        ConfigurableApplicationContext context = start(durable);
+        long seedStart = System.nanoTime();
+        seed(context.getBean(TicketService.class));
+        double seedPerSecond = tickets / seconds(System.nanoTime() - seedStart);
+
+        System.out.printf("[%s] steady-state writes%n", storage);
+        double writesPerSecond = steadyWrites(context.getBean(TicketService.class));
+        context.close();
+
+        System.out.printf("[%s] restarting%n", storage);
+        long restartStart = System.nanoTime();
+        context = start(durable);
+        long readyNanos = System.nanoTime() - restartStart;
+        if (!durable) {
+            // In memory the tickets are gone; getting back to the same state means importing them again
+            seed(context.getBean(TicketService.class));
+        }
+        long dataBackNanos = System.nanoTime() - restartStart;
+
+        double readMicros = firstReads(context.getBean(TicketService.class));
+        context.close();
+
+        long fileBytes = durable ? Files.size(dataDir.resolve("ticketdb.mv.db")) : -1;
+        return new Result(storage, seedPerSecond, writesPerSecond, readyNanos / 1_000_000,
+                dataBackNanos / 1_000_000, readMicros, fileBytes);
+    }
+
+    private ConfigurableApplicationContext start(boolean durable) {
+        // No status service runs here, so the ticket-created events go nowhere instead of to an HTTP endpoint
+        List<String> properties = new ArrayList<>(List.of(
+                "ticket-events.transport=in-process",
+                "ticket-search.rebuild-in-background=true"));
+        if (durable) {
+            properties.add("spring.profiles.active=durable");
+            properties.add("spring.datasource.url=jdbc:h2:file:" + dataDir.resolve("ticketdb") + DURABLE_SETTINGS);
+        } else {
+            // A fresh database per start: this is what a restart does to the in-memory mode
+            properties.add("spring.datasource.url=jdbc:h2:mem:storagebench" + (++memoryDatabases));
+        }
+        return BenchmarkContexts.ticketService(properties.toArray(new String[0]));
+    }
+
+    private void seed(TicketService ticketService) {
+        for (int created = 0; created < tickets; created += SEED_BATCH_SIZE) {
+            ticketService.createTickets(requests(Math.min(SEED_BATCH_SIZE, tickets - created)));
+        }
+    }
+
+    private double steadyWrites(TicketService ticketService) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(writeSeconds);
+        List<Future<Long>> counts = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int i = 0; i < writers; i++) {
+            counts.add(executor.submit(() -> {
+                long written = 0;
+                while (System.nanoTime() < deadline) {
+                    ticketService.createTicket(requests(1).get(0));
+                    written++;
+                }
+                return written;
+            }));
+        }
+        long written = 0;
+        for (Future<Long> count : counts) {
+            written += count.get();
+        }
+        executor.shutdown();
+        return written / seconds(System.nanoTime() - start);
+    }
+
+    private double firstReads(TicketService ticketService) {
+        long start = System.nanoTime();
+        for (int i = 0; i < READ_SAMPLES; i++) {
+            ticketService.getTicketById(1 + ThreadLocalRandom.current().nextLong(tickets));
+        }
+        return (System.nanoTime() - start) / 1000.0 / READ_SAMPLES;
+    }
+
+    private List<TicketCreateRequest> requests(int count) {
+        List<TicketCreateRequest> requests = new ArrayList<>(count);
+        for (Ticket ticket : BenchmarkData.tickets(count)) {
+            TicketCreateRequest request = new TicketCreateRequest();
+            request.setEmployeeId(ticket.getEmployeeId());
+            request.setEmployeeName(ticket.getEmployeeName());
+            request.setIssueCategory(ticket.getIssueCategory());
+            request.setDescription(pad(ticket.getDescription()));
+            request.setPriority(ticket.getPriority());
+            requests.add(request);
+        }
+        return requests;
+    }
+
+    private String pad(String description) {
+        StringBuilder padded = new StringBuilder(descriptionLength).append(description);
+        while (padded.length() < descriptionLength) {
+            padded.append(' ').append(description);
+        }
+        return padded.substring(0, descriptionLength);
+    }
+
+    private void deleteDataDir() throws IOException {
+        if (!Files.exists(dataDir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dataDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.delete(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    private static double seconds(long nanos) {
+        return nanos / 1_000_000_000.0;
+    }
+
+    private record Result(String storage, double seedPerSecond, double writesPerSecond, long readyMillis,
+                          long dataBackMillis, double readMicros, long fileBytes) {
+    }
+}
@@ -0,0 +1,55 @@
+package com.helpdesk.benchmarks;
+
+import com.helpdesk.ticketservice.dto.TicketCreateRequest;
+import com.helpdesk.ticketservice.dto.TicketResponse;
+import com.helpdesk.ticketservice.model.IssueCategory;
+import com.helpdesk.ticketservice.model.Priority;
+import com.helpdesk.ticketservice.service.TicketService;
+import com.helpdesk.ticketstatusservice.TicketStatusServiceApplication;
+import com.helpdesk.ticketstatusservice.event.TicketRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class BenchmarkContextsTest {
+
+    @Test
+    void profilePropertiesImportTheServicesOwnProfileFile() {
+        String[] properties = BenchmarkContexts.profileProperties(TicketStatusServiceApplication.class, "virtual-threads");
+
+        assertThat(properties).contains("spring.profiles.active=virtual-threads");
+        assertThat(properties[1]).contains("ticket-status-service").endsWith("/application-virtual-threads.yml");
+        // The profile refuses to start below Java 21
+        assumeTrue(Runtime.version().feature() >= 21, "virtual threads need Java 21");
+        try (ConfigurableApplicationContext context = BenchmarkContexts.ticketStatusService(properties)) {
+            assertThat(context.getEnvironment().getActiveProfiles()).containsExactly("virtual-threads");
+            assertThat(context.getEnvironment().getProperty("spring.threads.virtual.enabled")).isEqualTo("true");
+            assertThat(context.getEnvironment().getProperty("server.tomcat.accept-count")).isEqualTo("1000");
+        }
+    }
+
+    @Test
+    void inProcessTicketEventsReachTheStatusServiceRegistry() {
+        try (ConfigurableApplicationContext statusContext = BenchmarkContexts.ticketStatusService(
+                "spring.datasource.url=jdbc:h2:mem:bridgestatus;DB_CLOSE_DELAY=-1");
+             ConfigurableApplicationContext ticketContext = BenchmarkContexts.ticketService(
+                     "spring.datasource.url=jdbc:h2:mem:bridgetickets;DB_CLOSE_DELAY=-1",
+                     "ticket-events.transport=in-process",
+                     "ticket-search.rebuild-on-startup=false")) {
+            BenchmarkContexts.bridgeTicketEvents(ticketContext, statusContext);
+
+            TicketCreateRequest request = new TicketCreateRequest();
+            request.setEmployeeId(7L);
+            request.setEmployeeName("Ada Lovelace");
+            request.setIssueCategory(IssueCategory.NETWORK);
+            request.setDescription("VPN drops every few minutes");
+            request.setPriority(Priority.HIGH);
+            TicketResponse created = ticketContext.getBean(TicketService.class).createTicket(request);
+
+            assertThat(statusContext.getBean(TicketRegistry.class).findCreatedAt(created.getTicketId()))
+                    .contains(created.getCreatedAt());
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.helpdesk.common.archive;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+// An immutable file of columns, each deflated on its own so a read inflates only the columns it needs.
+// Layout: magic, version, row count and column count as ints, then the raw and compressed length of
+// every column, then the compressed columns in order.
+public final class ArchiveFile {
+
+    private static final int MAGIC = 0x48444152; // "HDAR"
+    private static final int VERSION = 1;
+
+    private final Path path;
+    private final int rows;
+    private final long[] offsets;
+    private final int[] rawLengths;
+    private final int[] compressedLengths;
+
+    private ArchiveFile(Path path, int rows, long[] offsets, int[] rawLengths, int[] compressedLengths) {
+        this.path = path;
+        this.rows = rows;
+        this.offsets = offsets;
+        this.rawLengths = rawLengths;
+        this.compressedLengths = compressedLengths;
+    }
+
+    // Written to a temporary file, forced to disk and then renamed, so a file that exists is complete
+    public static ArchiveFile write(Path path, int rows, List<ColumnWriter> columns) throws IOException {
+        byte[][] compressed = new byte[columns.size()][];
+        ByteBuffer header = ByteBuffer.allocate(16 + 8 * columns.size());
+        header.putInt(MAGIC).putInt(VERSION).putInt(rows).putInt(columns.size());
+        for (int i = 0; i < columns.size(); i++) {
+            byte[] raw = columns.get(i).toByteArray();
+            compressed[i] = deflate(raw);
+            header.putInt(raw.length).putInt(compressed[i].length);
+        }
+        header.flip();
+
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeFully(channel, header);
+            for (byte[] column : compressed) {
+                writeFully(channel, ByteBuffer.wrap(column));
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE);
+        return open(path);
+    }
+
+    public static ArchiveFile open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer start = readFully(channel, 0, 16);
+            if (start.getInt() != MAGIC || start.getInt() != VERSION) {
+                throw new IOException("Not an archive file: " + path);
+            }
+            int rows = start.getInt();
+            int columns = start.getInt();
+            ByteBuffer lengths = readFully(channel, 16, 8 * columns);
+            long[] offsets = new long[columns];
+            int[] rawLengths = new int[columns];
+            int[] compressedLengths = new int[columns];
+            long offset = 16 + 8L * columns;
+            for (int i = 0; i < columns; i++) {
+                rawLengths[i] = lengths.getInt();
+                compressedLengths[i] = lengths.getInt();
+                offsets[i] = offset;
+                offset += compressedLengths[i];
+            }
+            return new ArchiveFile(path, rows, offsets, rawLengths, compressedLengths);
+        }
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public long sizeInBytes() {
+        return offsets.length == 0 ? 0 : offsets[offsets.length - 1] + compressedLengths[offsets.length - 1];
+    }
+
+    public ColumnReader column(int index) throws IOException {
+        ByteBuffer compressed;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            compressed = readFully(channel, offsets[index], compressedLengths[index]);
+        }
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed.array());
+            byte[] raw = new byte[rawLengths[index]];
+            int inflated = 0;
+            while (inflated < raw.length) {
+                int count = inflater.inflate(raw, inflated, raw.length - inflated);
+                if (count == 0 && (inflater.finished() || inflater.needsInput())) {
+                    throw new IOException("Archive file " + path + " is truncated");
+                }
+                inflated += count;
+            }
+            return new ColumnReader(raw);
+        } catch (DataFormatException e) {
+            throw new IOException("Archive file " + path + " is corrupt", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        // Written once and rarely read, so the slower, smaller setting is worth it
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 4 + 64);
+            byte[] chunk = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(chunk, 0, deflater.deflate(chunk));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Archive file is truncated");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+}
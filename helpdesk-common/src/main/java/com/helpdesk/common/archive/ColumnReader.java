@@ -0,0 +1,50 @@
+package com.helpdesk.common.archive;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+// Reads back a column written by ColumnWriter, value by value in row order
+public final class ColumnReader {
+
+    private final byte[] data;
+    private final List<String> dictionary = new ArrayList<>();
+    private int position;
+    private long previous;
+
+    ColumnReader(byte[] data) {
+        this.data = data;
+    }
+
+    public long readLong() {
+        long zigzag = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = data[position++];
+            zigzag |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    public long readDelta() {
+        previous += readLong();
+        return previous;
+    }
+
+    public String readString() {
+        int length = (int) readLong();
+        String value = new String(data, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    public String readDictionary() {
+        int number = (int) readLong();
+        if (number == dictionary.size()) {
+            dictionary.add(readString());
+        }
+        return dictionary.get(number);
+    }
+}
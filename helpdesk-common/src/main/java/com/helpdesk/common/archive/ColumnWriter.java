@@ -0,0 +1,52 @@
+package com.helpdesk.common.archive;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+// The values of one archive column, appended row by row. Numbers are zigzag varints, so small values
+// and small differences take a byte or two before the column is compressed.
+public final class ColumnWriter {
+
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private final Map<String, Integer> dictionary = new HashMap<>();
+    private long previous;
+
+    public void writeLong(long value) {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            bytes.write((int) (zigzag & 0x7F) | 0x80);
+            zigzag >>>= 7;
+        }
+        bytes.write((int) zigzag);
+    }
+
+    // Difference to the column's previous value, for sorted or clustered values such as IDs and times
+    public void writeDelta(long value) {
+        writeLong(value - previous);
+        previous = value;
+    }
+
+    public void writeString(String value) {
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        writeLong(utf8.length);
+        bytes.writeBytes(utf8);
+    }
+
+    // For columns with few distinct values: the first occurrence is written out, later ones by number
+    public void writeDictionary(String value) {
+        Integer number = dictionary.get(value);
+        if (number != null) {
+            writeLong(number);
+            return;
+        }
+        writeLong(dictionary.size());
+        dictionary.put(value, dictionary.size());
+        writeString(value);
+    }
+
+    public byte[] toByteArray() {
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,49 @@
+package com.helpdesk.common.client;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+// Connection pool, timeout and resilience settings for the calls to one peer service, bound from
+// `<peer>.transport` in each service's application.yml
+@Data
+public class PeerTransportProperties {
+
+    // Connection pool: kept-alive connections to the peer, bounded in size and wait time
+    private int maxConnections = 200;
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(2);
+    private int pendingAcquireMaxCount = 1000;
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+    private Duration maxLifeTime = Duration.ofMinutes(5);
+
+    // Per-attempt timeouts and the deadline for a whole call, retries included
+    private Duration connectTimeout = Duration.ofSeconds(1);
+    private Duration responseTimeout = Duration.ofSeconds(5);
+    private Duration callDeadline = Duration.ofSeconds(10);
+
+    private final Retry retry = new Retry();
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private final Bulkhead bulkhead = new Bulkhead();
+
+    @Data
+    public static class Retry {
+        private int maxRetries = 2;
+        private Duration backoff = Duration.ofMillis(50);
+        private double budgetRatio = 0.1;
+        private int budgetMaxTokens = 20;
+    }
+
+    @Data
+    public static class CircuitBreaker {
+        private float failureRateThreshold = 50;
+        private Duration slowCallDuration = Duration.ofSeconds(3);
+        private int slidingWindowSize = 50;
+        private int minimumCalls = 20;
+        private Duration openDuration = Duration.ofSeconds(10);
+    }
+
+    @Data
+    public static class Bulkhead {
+        private int maxConcurrentCalls = 100;
+    }
+}
@@ -0,0 +1,82 @@
+package com.helpdesk.common.client;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+// Builds the WebClient one service uses to call its peer: a pooled keep-alive connection pool with
+// per-attempt timeouts, guarded by the ResilientExchangeFilter
+public final class PeerWebClients {
+
+    private PeerWebClients() {
+    }
+
+    // Pass Boot's builder so calls are recorded as http.client.requests timers
+    public static WebClient create(WebClient.Builder builder, String peer, String baseUrl,
+            PeerTransportProperties transport, MeterRegistry meterRegistry) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder(peer)
+                .maxConnections(transport.getMaxConnections())
+                .pendingAcquireTimeout(transport.getPendingAcquireTimeout())
+                .pendingAcquireMaxCount(transport.getPendingAcquireMaxCount())
+                .maxIdleTime(transport.getMaxIdleTime())
+                .maxLifeTime(transport.getMaxLifeTime())
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true) // reactor.netty.connection.provider.* pool gauges
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) transport.getConnectTimeout().toMillis())
+                .responseTimeout(transport.getResponseTimeout())
+                .keepAlive(true);
+
+        PeerTransportProperties.Retry retry = transport.getRetry();
+        return builder
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(new ResilientExchangeFilter(circuitBreaker(peer, transport.getCircuitBreaker(), meterRegistry),
+                        bulkhead(peer, transport.getBulkhead(), meterRegistry),
+                        new RetryBudget(retry.getBudgetRatio(), retry.getBudgetMaxTokens()), retry.getMaxRetries(),
+                        retry.getBackoff(), transport.getCallDeadline(), meterRegistry))
+                .build();
+    }
+
+    // State, failure rate and call outcomes are published as resilience4j.circuitbreaker.* meters
+    private static CircuitBreaker circuitBreaker(String peer, PeerTransportProperties.CircuitBreaker settings,
+            MeterRegistry meterRegistry) {
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(settings.getFailureRateThreshold())
+                .slowCallRateThreshold(settings.getFailureRateThreshold())
+                .slowCallDurationThreshold(settings.getSlowCallDuration())
+                .slidingWindowSize(settings.getSlidingWindowSize())
+                .minimumNumberOfCalls(settings.getMinimumCalls())
+                .waitDurationInOpenState(settings.getOpenDuration())
+                .permittedNumberOfCallsInHalfOpenState(5)
+                .build());
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry.circuitBreaker(peer);
+    }
+
+    // Fails fast instead of queueing when too many calls are in flight; resilience4j.bulkhead.* meters
+    private static Bulkhead bulkhead(String peer, PeerTransportProperties.Bulkhead settings,
+            MeterRegistry meterRegistry) {
+        BulkheadRegistry registry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(settings.getMaxConcurrentCalls())
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+        return registry.bulkhead(peer);
+    }
+}
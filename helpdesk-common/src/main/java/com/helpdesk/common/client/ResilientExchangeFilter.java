@@ -0,0 +1,122 @@
+package com.helpdesk.common.client;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+// Guards every call to the peer service: a bulkhead bounds concurrent calls, a circuit breaker
+// fails fast while the peer is unhealthy, failed attempts are retried with jittered backoff within
+// the retry budget, and the whole call, retries included, must finish within the deadline.
+@Slf4j
+public class ResilientExchangeFilter implements ExchangeFilterFunction {
+
+    // Request attribute marking a POST that is safe to repeat, such as a read-only lookup
+    public static final String IDEMPOTENT = ResilientExchangeFilter.class.getName() + ".idempotent";
+
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final RetryBudget retryBudget;
+    private final int maxRetries;
+    private final Duration retryBackoff;
+    private final Duration callDeadline;
+    private final Counter retries;
+    private final Counter retriesDenied;
+
+    public ResilientExchangeFilter(CircuitBreaker circuitBreaker, Bulkhead bulkhead, RetryBudget retryBudget,
+            int maxRetries, Duration retryBackoff, Duration callDeadline, MeterRegistry meterRegistry) {
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.retryBudget = retryBudget;
+        this.maxRetries = maxRetries;
+        this.retryBackoff = retryBackoff;
+        this.callDeadline = callDeadline;
+        this.retries = meterRegistry.counter("peer.client.retries", "peer", circuitBreaker.getName());
+        this.retriesDenied = meterRegistry.counter("peer.client.retries.denied", "peer", circuitBreaker.getName());
+        Gauge.builder("peer.client.retry.budget", retryBudget, RetryBudget::availableRetries)
+                .description("Retries currently allowed by the retry budget")
+                .tag("peer", circuitBreaker.getName())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        boolean idempotent = isIdempotent(request);
+        return Mono.defer(() -> {
+                    retryBudget.recordCall();
+                    return next.exchange(request).flatMap(this::failOnServerError);
+                })
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .retryWhen(Retry.backoff(maxRetries, retryBackoff)
+                        .jitter(0.5)
+                        .filter(error -> shouldRetry(request, idempotent, error))
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                .timeout(callDeadline, Mono.error(() -> new TimeoutException(
+                        "No response from " + request.url() + " within " + callDeadline.toMillis() + " ms")));
+    }
+
+    // 5xx responses count as failures for the circuit breaker and the retry policy
+    private Mono<ClientResponse> failOnServerError(ClientResponse response) {
+        if (response.statusCode().is5xxServerError()) {
+            return response.createException().flatMap(Mono::error);
+        }
+        return Mono.just(response);
+    }
+
+    private boolean shouldRetry(ClientRequest request, boolean idempotent, Throwable error) {
+        if (!isTransient(error, idempotent)) {
+            return false;
+        }
+        if (!retryBudget.tryAcquireRetry()) {
+            retriesDenied.increment();
+            log.warn("Retry budget exhausted, not retrying {} {}: {}", request.method(), request.url(),
+                    error.getMessage());
+            return false;
+        }
+        retries.increment();
+        log.debug("Retrying {} {} after: {}", request.method(), request.url(), error.getMessage());
+        return true;
+    }
+
+    // A refused connection never reached the peer, so any request can be resent. Timeouts and
+    // gateway errors may have been processed already, so only idempotent requests are repeated.
+    private static boolean isTransient(Throwable error, boolean idempotent) {
+        if (error instanceof WebClientRequestException && error.getCause() instanceof ConnectException) {
+            return true;
+        }
+        if (!idempotent) {
+            return false;
+        }
+        if (error instanceof WebClientRequestException) {
+            return true;
+        }
+        if (error instanceof WebClientResponseException responseError) {
+            int status = responseError.getStatusCode().value();
+            return status == 502 || status == 503 || status == 504;
+        }
+        return false;
+    }
+
+    private static boolean isIdempotent(ClientRequest request) {
+        return HttpMethod.GET.equals(request.method()) || HttpMethod.HEAD.equals(request.method())
+                || Boolean.TRUE.equals(request.attribute(IDEMPOTENT).orElse(false));
+    }
+}
@@ -0,0 +1,41 @@
+package com.helpdesk.common.client;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Token bucket that caps retries at a fraction of the calls made. Every call deposits `ratio`
+// tokens up to `maxTokens`, and every retry needs a whole token, so while the peer is failing
+// retries add at most `ratio` extra load instead of multiplying it.
+public class RetryBudget {
+
+    private static final long SCALE = 1000;
+
+    private final long depositPerCall;
+    private final long capacity;
+    private final AtomicLong balance;
+
+    public RetryBudget(double ratio, int maxTokens) {
+        this.depositPerCall = Math.round(ratio * SCALE);
+        this.capacity = maxTokens * SCALE;
+        // Start full so a quiet service can still retry its first failures
+        this.balance = new AtomicLong(capacity);
+    }
+
+    public void recordCall() {
+        balance.getAndUpdate(current -> Math.min(capacity, current + depositPerCall));
+    }
+
+    public boolean tryAcquireRetry() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - SCALE));
+        return true;
+    }
+
+    public double availableRetries() {
+        return (double) balance.get() / SCALE;
+    }
+}
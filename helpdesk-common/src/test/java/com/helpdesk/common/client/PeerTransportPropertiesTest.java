@@ -0,0 +1,32 @@
+package com.helpdesk.common.client;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PeerTransportPropertiesTest {
+
+    @Test
+    void bindsTheTransportSectionOfApplicationYml() {
+        MapConfigurationPropertySource source = new MapConfigurationPropertySource(Map.of(
+                "peer.transport.response-timeout", "2s",
+                "peer.transport.retry.budget-ratio", "0.2",
+                "peer.transport.circuit-breaker.slow-call-duration", "1s",
+                "peer.transport.bulkhead.max-concurrent-calls", "10"));
+
+        PeerTransportProperties transport = new Binder(source)
+                .bind("peer.transport", Bindable.ofInstance(new PeerTransportProperties())).get();
+
+        assertThat(transport.getResponseTimeout()).isEqualTo(Duration.ofSeconds(2));
+        assertThat(transport.getRetry().getBudgetRatio()).isEqualTo(0.2);
+        assertThat(transport.getCircuitBreaker().getSlowCallDuration()).isEqualTo(Duration.ofSeconds(1));
+        assertThat(transport.getBulkhead().getMaxConcurrentCalls()).isEqualTo(10);
+        assertThat(transport.getCallDeadline()).isEqualTo(Duration.ofSeconds(10));
+    }
+}
@@ -0,0 +1,211 @@
+package com.helpdesk.ticketservice.archive;
+
+import com.helpdesk.common.archive.ArchiveFile;
+import com.helpdesk.common.archive.ColumnReader;
+import com.helpdesk.common.archive.ColumnWriter;
+import com.helpdesk.ticketservice.model.IssueCategory;
+import com.helpdesk.ticketservice.model.Priority;
+import com.helpdesk.ticketservice.model.Ticket;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// Cold storage for closed tickets, moved out of the tickets table by TicketArchiveJob. Every archive
+// run writes one immutable file; the ticket IDs of each file stay in memory, so finding out whether a
+// ticket is archived is a binary search per file, and only the file that has it is read. A read
+// inflates the file's columns and decodes them up to the ticket's row.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TicketArchive {
+
+    // One value per ticket, in ascending ticket ID order
+    private static final int TICKET_IDS = 0;
+    private static final int EMPLOYEE_IDS = 1;
+    private static final int EMPLOYEE_NAMES = 2;
+    private static final int ISSUE_CATEGORIES = 3;
+    private static final int DESCRIPTIONS = 4;
+    private static final int PRIORITIES = 5;
+    private static final int CREATED_AT = 6;
+    private static final int COLUMN_COUNT = 7;
+
+    private static final String FILE_PREFIX = "tickets-";
+    private static final String FILE_SUFFIX = ".arc";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${ticket-archive.dir:./data/ticket-archive}")
+    private String dir;
+
+    private Path directory;
+    private final List<IndexedFile> files = new CopyOnWriteArrayList<>();
+
+    @PostConstruct
+    void open() throws IOException {
+        directory = Path.of(dir);
+        if (Files.isDirectory(directory)) {
+            try (Stream<Path> paths = Files.list(directory)) {
+                for (Path path : paths.sorted().toList()) {
+                    String name = path.getFileName().toString();
+                    if (name.endsWith(".tmp")) {
+                        // Left by a run that stopped before renaming it; its tickets were not deleted
+                        Files.delete(path);
+                    } else if (name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX)) {
+                        files.add(index(ArchiveFile.open(path)));
+                    }
+                }
+            }
+            log.info("Ticket archive opened: {} tickets in {} files", ticketCount(), files.size());
+        }
+
+        Gauge.builder("ticket.archive.tickets", this, TicketArchive::ticketCount)
+                .description("Tickets moved to the ticket archive")
+                .register(meterRegistry);
+        Gauge.builder("ticket.archive.size", this, TicketArchive::sizeInBytes)
+                .description("Compressed size of the ticket archive in bytes")
+                .register(meterRegistry);
+    }
+
+    // Writes the tickets, none of them archived before, as one new file
+    public synchronized void write(Collection<Ticket> tickets) throws IOException {
+        List<Ticket> sorted = new ArrayList<>(tickets);
+        sorted.sort(Comparator.comparing(Ticket::getTicketId));
+
+        List<ColumnWriter> columns = new ArrayList<>();
+        for (int i = 0; i < COLUMN_COUNT; i++) {
+            columns.add(new ColumnWriter());
+        }
+        for (Ticket ticket : sorted) {
+            columns.get(TICKET_IDS).writeDelta(ticket.getTicketId());
+            columns.get(EMPLOYEE_IDS).writeLong(ticket.getEmployeeId());
+            columns.get(EMPLOYEE_NAMES).writeDictionary(ticket.getEmployeeName());
+            columns.get(ISSUE_CATEGORIES).writeDictionary(ticket.getIssueCategory().name());
+            columns.get(DESCRIPTIONS).writeString(ticket.getDescription());
+            columns.get(PRIORITIES).writeDictionary(ticket.getPriority().name());
+            columns.get(CREATED_AT).writeDelta(toMicros(ticket.getCreatedAt()));
+        }
+
+        Files.createDirectories(directory);
+        int number = files.isEmpty() ? 1 : files.get(files.size() - 1).number() + 1;
+        Path path = directory.resolve(String.format("%s%08d%s", FILE_PREFIX, number, FILE_SUFFIX));
+        files.add(index(ArchiveFile.write(path, sorted.size(), columns)));
+    }
+
+    public Optional<Ticket> findById(Long ticketId) {
+        List<Ticket> found = findAllById(List.of(ticketId));
+        return found.isEmpty() ? Optional.empty() : Optional.of(found.get(0));
+    }
+
+    public boolean contains(Long ticketId) {
+        return files.stream().anyMatch(file -> Arrays.binarySearch(file.ticketIds(), ticketId) >= 0);
+    }
+
+    // Archived tickets among the given IDs; each file holding some of them is read once. A ticket found
+    // in one file is not looked for in later ones, so a ticket written twice is still returned once.
+    public List<Ticket> findAllById(Collection<Long> ticketIds) {
+        Set<Long> remaining = new HashSet<>(ticketIds);
+        List<Ticket> tickets = new ArrayList<>();
+        for (IndexedFile file : files) {
+            if (remaining.isEmpty()) {
+                break;
+            }
+            boolean[] wanted = new boolean[file.ticketIds().length];
+            int last = -1;
+            for (Long ticketId : remaining) {
+                int row = Arrays.binarySearch(file.ticketIds(), ticketId);
+                if (row >= 0) {
+                    wanted[row] = true;
+                    last = Math.max(last, row);
+                }
+            }
+            if (last >= 0) {
+                List<Ticket> found = file.read(wanted, last);
+                found.forEach(ticket -> remaining.remove(ticket.getTicketId()));
+                tickets.addAll(found);
+            }
+        }
+        return tickets;
+    }
+
+    public int ticketCount() {
+        return files.stream().mapToInt(file -> file.ticketIds().length).sum();
+    }
+
+    public long sizeInBytes() {
+        return files.stream().mapToLong(file -> file.file().sizeInBytes()).sum();
+    }
+
+    private static IndexedFile index(ArchiveFile file) throws IOException {
+        ColumnReader ticketColumn = file.column(TICKET_IDS);
+        long[] ticketIds = new long[file.rows()];
+        for (int row = 0; row < ticketIds.length; row++) {
+            ticketIds[row] = ticketColumn.readDelta();
+        }
+        String name = file.path().getFileName().toString();
+        int number = Integer.parseInt(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length()));
+        return new IndexedFile(file, number, ticketIds);
+    }
+
+    private static long toMicros(LocalDateTime time) {
+        return TimeUnit.SECONDS.toMicros(time.toEpochSecond(ZoneOffset.UTC)) + time.getNano() / 1000;
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+                (int) Math.floorMod(micros, 1_000_000) * 1000, ZoneOffset.UTC);
+    }
+
+    private record IndexedFile(ArchiveFile file, int number, long[] ticketIds) {
+
+        // Decodes every column up to the last wanted row, as deltas and dictionaries build on earlier rows
+        List<Ticket> read(boolean[] wanted, int last) {
+            try {
+                ColumnReader employeeIds = file.column(EMPLOYEE_IDS);
+                ColumnReader employeeNames = file.column(EMPLOYEE_NAMES);
+                ColumnReader issueCategories = file.column(ISSUE_CATEGORIES);
+                ColumnReader descriptions = file.column(DESCRIPTIONS);
+                ColumnReader priorities = file.column(PRIORITIES);
+                ColumnReader createdAt = file.column(CREATED_AT);
+                List<Ticket> tickets = new ArrayList<>();
+                for (int row = 0; row <= last; row++) {
+                    long employeeId = employeeIds.readLong();
+                    String employeeName = employeeNames.readDictionary();
+                    String issueCategory = issueCategories.readDictionary();
+                    String description = descriptions.readString();
+                    String priority = priorities.readDictionary();
+                    long createdAtMicros = createdAt.readDelta();
+                    if (wanted[row]) {
+                        tickets.add(new Ticket(ticketIds[row], employeeId, employeeName,
+                                IssueCategory.valueOf(issueCategory), description, Priority.valueOf(priority),
+                                fromMicros(createdAtMicros)));
+                    }
+                }
+                return tickets;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.helpdesk.ticketservice.archive;
+
+import com.helpdesk.ticketservice.client.StatusServiceClient;
+import com.helpdesk.ticketservice.dto.CurrentStatusResponse;
+import com.helpdesk.ticketservice.model.Ticket;
+import com.helpdesk.ticketservice.repository.TicketRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+// Moves tickets closed longer than ticket-archive.min-age ago out of the tickets table into
+// TicketArchive, one file per batch. Only the status service knows which tickets are closed, so the
+// tickets created before the cutoff are checked with it a page at a time. Tickets never change, so a
+// ticket reopened meanwhile is still served unchanged from the archive.
+@Component
+@ConditionalOnProperty(name = "ticket-archive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class TicketArchiveJob {
+
+    // POST /status/current takes at most this many ticket IDs
+    private static final int MAX_STATUS_LOOKUP = 1000;
+
+    private final TicketRepository ticketRepository;
+    private final TicketArchive ticketArchive;
+    private final StatusServiceClient statusServiceClient;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${ticket-archive.min-age:30d}")
+    private Duration minAge;
+
+    @Value("${ticket-archive.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${ticket-archive.max-tickets-per-run:100000}")
+    private int maxTicketsPerRun;
+
+    private Timer runTimer;
+    private final AtomicLong hotRows = new AtomicLong(-1);
+
+    @PostConstruct
+    void registerMetrics() {
+        runTimer = Timer.builder("ticket.archive.run")
+                .description("Time taken by a ticket archive run")
+                .register(meterRegistry);
+        // Counted by each run anyway; a COUNT(*) per scrape would scan the table. NaN until the first run
+        Gauge.builder("ticket.archive.hot.rows", hotRows, rows -> rows.get() < 0 ? Double.NaN : rows.get())
+                .description("Rows left in the tickets table after the last archive run")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${ticket-archive.interval-ms:3600000}",
+            initialDelayString = "${ticket-archive.interval-ms:3600000}")
+    public void archiveClosedTickets() {
+        runTimer.record(this::archive);
+    }
+
+    private void archive() {
+        LocalDateTime closedBefore = LocalDateTime.now().minus(minAge);
+        long hotRowsBefore = ticketRepository.count();
+        long start = System.nanoTime();
+
+        int archived = 0;
+        long afterId = 0;
+        while (archived < maxTicketsPerRun) {
+            // A ticket closed before the cutoff was also created before it
+            List<Ticket> candidates = ticketRepository.findCreatedBefore(afterId, closedBefore,
+                    PageRequest.of(0, Math.min(batchSize, MAX_STATUS_LOOKUP)));
+            if (candidates.isEmpty()) {
+                break;
+            }
+            afterId = candidates.get(candidates.size() - 1).getTicketId();
+
+            List<CurrentStatusResponse> statuses;
+            try {
+                statuses = statusServiceClient.getCurrentStatuses(
+                        candidates.stream().map(Ticket::getTicketId).collect(Collectors.toList())).block();
+            } catch (RuntimeException e) {
+                log.warn("Ticket archive run stopped, status service unavailable: {}", e.getMessage());
+                break;
+            }
+            Set<Long> closedIds = statuses.stream()
+                    .filter(status -> "CLOSED".equals(status.getCurrentStatus())
+                            && status.getLastUpdatedAt().isBefore(closedBefore))
+                    .map(CurrentStatusResponse::getTicketId)
+                    .collect(Collectors.toSet());
+            List<Ticket> closed = candidates.stream()
+                    .filter(ticket -> closedIds.contains(ticket.getTicketId()))
+                    .limit(maxTicketsPerRun - archived)
+                    .collect(Collectors.toList());
+            if (closed.isEmpty()) {
+                continue;
+            }
+
+            // Rows of tickets already in the archive were left by a run that stopped between writing the
+            // file and deleting them; they are only deleted, so no ticket is archived twice
+            List<Ticket> unarchived = closed.stream()
+                    .filter(ticket -> !ticketArchive.contains(ticket.getTicketId()))
+                    .collect(Collectors.toList());
+            if (unarchived.size() < closed.size()) {
+                log.info("Deleting {} tickets already archived by an earlier run", closed.size() - unarchived.size());
+            }
+            if (!unarchived.isEmpty()) {
+                try {
+                    ticketArchive.write(unarchived);
+                } catch (IOException e) {
+                    log.error("Ticket archive run stopped, unable to write the archive: {}", e.getMessage());
+                    break;
+                }
+            }
+            ticketRepository.deleteAllByIdInBatch(closed.stream().map(Ticket::getTicketId).collect(Collectors.toList()));
+            archived += unarchived.size();
+        }
+
+        long hotRowsAfter = ticketRepository.count();
+        hotRows.set(hotRowsAfter);
+        log.info("Archived {} tickets closed before {} in {} ms; tickets table went from {} to {} rows, "
+                        + "archive holds {} tickets in {} KB",
+                archived, closedBefore, (System.nanoTime() - start) / 1_000_000, hotRowsBefore, hotRowsAfter,
+                ticketArchive.ticketCount(), ticketArchive.sizeInBytes() / 1024);
+    }
+}
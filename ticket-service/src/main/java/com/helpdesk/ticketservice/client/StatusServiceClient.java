@@ -1,46 +1,61 @@
 package com.helpdesk.ticketservice.client;
 
+import com.helpdesk.common.client.ResilientExchangeFilter;
+import com.helpdesk.ticketservice.dto.CurrentStatusResponse;
+import com.helpdesk.ticketservice.dto.StatusUpdateBatchResponse;
+import com.helpdesk.ticketservice.model.StatusOutboxEntry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class StatusServiceClient {
 
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
   private final WebClient webClient;
 
-  public void createInitialStatus(Long ticketId) {
-    try {
-      log.info("Creating initial OPEN status for ticket ID: {}", ticketId);
-
-      String requestBody = String.format("""
-          {
-              "ticketId": %d,
-              "status": "OPEN",
-              "updatedBy": "system"
-          }
-          """, ticketId);
-
-      webClient.post()
-          .uri("/status/update")
-          .header("Content-Type", "application/json")
-          .bodyValue(requestBody)
-          .retrieve()
-          .bodyToMono(String.class)
-          .onErrorResume(ex -> {
-            log.warn("Failed to create initial status for ticket {}: {}", ticketId, ex.getMessage());
-            return Mono.empty(); // Don't fail ticket creation if status creation fails
-          })
-          .subscribe(); // Fire and forget - don't wait for response
-
-    } catch (Exception e) {
-      log.warn("Error creating initial status for ticket {}: {}", ticketId, e.getMessage());
-      // Don't throw exception - ticket creation should succeed even if status
-      // creation fails
-    }
+  // Sends many status updates in one call; returns a cold Mono with one result per entry, in order
+  public Mono<StatusUpdateBatchResponse> postStatuses(List<StatusOutboxEntry> entries) {
+    log.debug("Posting {} statuses to status service", entries.size());
+
+    List<Map<String, Object>> updates = entries.stream()
+        .map(entry -> Map.<String, Object>of(
+            "ticketId", entry.getTicketId(),
+            "status", entry.getStatus(),
+            "updatedBy", entry.getUpdatedBy()))
+        .collect(Collectors.toList());
+
+    return webClient.post()
+        .uri("/status/update/batch")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(Map.of("updates", updates))
+        .retrieve()
+        .bodyToMono(StatusUpdateBatchResponse.class)
+        .timeout(REQUEST_TIMEOUT);
+  }
+
+  // Current status of each existing ticket among ticketIds (at most 1000); read-only, so safe to retry
+  public Mono<List<CurrentStatusResponse>> getCurrentStatuses(List<Long> ticketIds) {
+    return webClient.post()
+        .uri("/status/current")
+        .attribute(ResilientExchangeFilter.IDEMPOTENT, true)
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(Map.of("ticketIds", ticketIds))
+        .retrieve()
+        .bodyToMono(new ParameterizedTypeReference<List<CurrentStatusResponse>>() {
+        })
+        .timeout(REQUEST_TIMEOUT);
   }
-}
\ No newline at end of file
+}
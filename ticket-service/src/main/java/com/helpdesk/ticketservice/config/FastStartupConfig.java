@@ -0,0 +1,37 @@
+package com.helpdesk.ticketservice.config;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.util.List;
+
+// Bean creation of the fast-startup profile. Only beans nothing on the request path needs at startup
+// are made lazy: making everything lazy would also hold back @Scheduled jobs and metric registration
+// until something happened to touch their beans.
+@Configuration
+@Profile("fast-startup")
+public class FastStartupConfig {
+
+    // springdoc's OpenAPI and Swagger UI beans; their endpoints create them on first use
+    private static final List<String> LAZY_PACKAGES = List.of("org.springdoc.");
+
+    @Bean
+    public static BeanFactoryPostProcessor lazyNonCriticalBeans() {
+        return beanFactory -> {
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                // @Bean methods are attributed to the configuration class declaring them
+                String factoryBean = definition.getFactoryBeanName();
+                String source = factoryBean != null && beanFactory.containsBeanDefinition(factoryBean)
+                        ? beanFactory.getBeanDefinition(factoryBean).getBeanClassName()
+                        : definition.getBeanClassName();
+                if (source != null && LAZY_PACKAGES.stream().anyMatch(source::startsWith)) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+}
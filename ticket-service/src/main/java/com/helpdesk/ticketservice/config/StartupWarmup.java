@@ -0,0 +1,111 @@
+package com.helpdesk.ticketservice.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.List;
+
+// Sends read-only requests to this instance's own endpoints before it reports ready. Application
+// runners complete before the readiness state changes to ACCEPTING_TRAFFIC, so the first real requests
+// find the handler mappings, Jackson serializers, JPA queries and connection pool already used once,
+// and the hot paths past the interpreter. Only requests that succeed on any data are sent, so the
+// error metrics and logs stay clean.
+@Component
+@ConditionalOnProperty(name = "startup-warmup.enabled", havingValue = "true")
+@Order(Ordered.LOWEST_PRECEDENCE) // after the other runners, e.g. the search index rebuild
+@RequiredArgsConstructor
+@Slf4j
+public class StartupWarmup implements ApplicationRunner {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+
+    private static final List<WarmupRequest> REQUESTS = List.of(
+            new WarmupRequest(HttpMethod.GET, "/tickets?size=20", null),
+            new WarmupRequest(HttpMethod.GET, "/tickets/employee/1", null),
+            new WarmupRequest(HttpMethod.GET, "/tickets/search?q=password", null),
+            new WarmupRequest(HttpMethod.POST, "/tickets/lookup", "{\"ticketIds\":[1,2,3]}"),
+            new WarmupRequest(HttpMethod.GET, "/outbox/stats", null));
+
+    private final Environment environment;
+    private final ConfigurableApplicationContext context;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${startup-warmup.iterations:100}")
+    private int iterations;
+
+    @Value("${startup-warmup.timeout:20s}")
+    private Duration timeout;
+
+    // Set by the training run of the cds build profile, which ends once the warm-up has loaded the classes
+    @Value("${startup-warmup.exit-when-done:false}")
+    private boolean exitWhenDone;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        String port = environment.getProperty("local.server.port");
+        if (port == null) {
+            log.info("No web server running, skipping warm-up");
+            return;
+        }
+
+        WebClient client = WebClient.create("http://localhost:" + port);
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        int sent = 0;
+        int failed = 0;
+        for (int i = 0; i < iterations && System.nanoTime() < deadline; i++) {
+            for (WarmupRequest request : REQUESTS) {
+                if (!send(client, request)) {
+                    failed++;
+                }
+                sent++;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        Timer.builder("startup.warmup")
+                .description("Time spent warming up the endpoints before reporting ready")
+                .register(meterRegistry)
+                .record(Duration.ofNanos(elapsed));
+        log.info("Warm-up sent {} requests ({} failed) in {} ms", sent, failed, elapsed / 1_000_000);
+
+        if (exitWhenDone) {
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+
+    private boolean send(WebClient client, WarmupRequest request) {
+        try {
+            WebClient.RequestBodySpec bodySpec = client.method(request.method()).uri(request.uri());
+            WebClient.RequestHeadersSpec<?> spec = request.body() == null
+                    ? bodySpec
+                    : bodySpec.contentType(MediaType.APPLICATION_JSON).bodyValue(request.body());
+            Boolean ok = spec.exchangeToMono(response -> response.releaseBody()
+                            .thenReturn(response.statusCode().is2xxSuccessful()))
+                    .block(REQUEST_TIMEOUT);
+            return Boolean.TRUE.equals(ok);
+        } catch (RuntimeException e) {
+            // Never fatal: an instance that could not warm up still serves requests, only slower at first
+            log.debug("Warm-up request {} {} failed: {}", request.method(), request.uri(), e.getMessage());
+            return false;
+        }
+    }
+
+    private record WarmupRequest(HttpMethod method, String uri, String body) {
+    }
+}
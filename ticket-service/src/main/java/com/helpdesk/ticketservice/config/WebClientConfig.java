@@ -1,5 +1,10 @@
 package com.helpdesk.ticketservice.config;
 
+import com.helpdesk.common.client.PeerTransportProperties;
+import com.helpdesk.common.client.PeerWebClients;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -7,10 +12,18 @@ import org.springframework.web.reactive.function.client.WebClient;
 @Configuration
 public class WebClientConfig {
 
+  private static final String PEER = "status-service";
+
+  @Bean
+  @ConfigurationProperties("status-service.transport")
+  public PeerTransportProperties statusServiceTransport() {
+    return new PeerTransportProperties();
+  }
+
   @Bean
-  public WebClient webClient() {
-    return WebClient.builder()
-        .baseUrl("http://localhost:8081") // Status service URL
-        .build();
+  public WebClient webClient(WebClient.Builder builder, MeterRegistry meterRegistry,
+      PeerTransportProperties statusServiceTransport,
+      @Value("${status-service.base-url:http://localhost:8081}") String statusServiceUrl) {
+    return PeerWebClients.create(builder, PEER, statusServiceUrl, statusServiceTransport, meterRegistry);
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,21 @@
+package com.helpdesk.ticketservice.controller;
+
+import com.helpdesk.ticketservice.dto.OutboxStatsResponse;
+import com.helpdesk.ticketservice.service.StatusOutboxRelay;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/outbox")
+@RequiredArgsConstructor
+public class OutboxController {
+
+    private final StatusOutboxRelay statusOutboxRelay;
+
+    @GetMapping("/stats")
+    public OutboxStatsResponse getOutboxStats() {
+        return statusOutboxRelay.getStats();
+    }
+}
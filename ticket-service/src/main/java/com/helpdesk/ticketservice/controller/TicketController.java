@@ -1,15 +1,32 @@
 package com.helpdesk.ticketservice.controller;
 
+import com.helpdesk.ticketservice.dto.TicketBatchCreateRequest;
 import com.helpdesk.ticketservice.dto.TicketCreateRequest;
+import com.helpdesk.ticketservice.dto.TicketLookupRequest;
+import com.helpdesk.ticketservice.dto.TicketPageResponse;
 import com.helpdesk.ticketservice.dto.TicketResponse;
+import com.helpdesk.ticketservice.dto.TicketSearchResponse;
+import com.helpdesk.ticketservice.model.IssueCategory;
 import com.helpdesk.ticketservice.model.Priority;
+import com.helpdesk.ticketservice.model.TicketSort;
+import com.helpdesk.ticketservice.repository.TicketFilter;
 import com.helpdesk.ticketservice.service.TicketService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -18,6 +35,9 @@ import java.util.List;
 @Validated
 public class TicketController {
 
+    // Tickets never change once created, so clients and proxies may keep them indefinitely
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
     private final TicketService ticketService;
 
     @PostMapping("/create")
@@ -25,10 +45,38 @@ public class TicketController {
         return ticketService.createTicket(request);
     }
 
+    @PostMapping("/create/batch")
+    public List<TicketResponse> createTickets(@Valid @RequestBody TicketBatchCreateRequest request) {
+        return ticketService.createTickets(request.getTickets());
+    }
+
+    // The ticket ID is a strong validator, so a matching If-None-Match is answered without reading the
+    // ticket. Its existence is still checked, so an ETag made up for an unknown ID gets a 404
     @GetMapping("/{ticketId}")
-    public TicketResponse getTicketById(
-            @PathVariable @Positive(message = "Ticket ID must be a positive number") Long ticketId) {
-        return ticketService.getTicketById(ticketId);
+    public ResponseEntity<TicketResponse> getTicketById(
+            @PathVariable @Positive(message = "Ticket ID must be a positive number") Long ticketId,
+            WebRequest request) {
+        String etag = "\"ticket-" + ticketId + "\"";
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null && ticketService.ticketExists(ticketId)
+                && request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(IMMUTABLE).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(IMMUTABLE).body(ticketService.getTicketById(ticketId));
+    }
+
+    // Ranked full-text search over descriptions and employee names
+    @GetMapping("/search")
+    public TicketSearchResponse searchTickets(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+        return ticketService.searchTickets(q, page, size);
+    }
+
+    // Unknown IDs are left out of the response
+    @PostMapping("/lookup")
+    public List<TicketResponse> getTicketsByIds(@Valid @RequestBody TicketLookupRequest request) {
+        return ticketService.getTicketsByIds(request.getTicketIds());
     }
 
     @GetMapping("/employee/{employeeId}")
@@ -43,7 +91,35 @@ public class TicketController {
     }
 
     @GetMapping("/all")
-    public List<TicketResponse> getAllTickets() {
-        return ticketService.getAllTickets();
+    public TicketPageResponse getAllTickets(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) @Positive(message = "Employee ID must be a positive number") Long employeeId,
+            @RequestParam(required = false) Priority priority) {
+        return ticketService.getTicketPage(cursor, size, employeeId, priority);
+    }
+
+    // Any combination of filters, newest first by default; follow nextCursor for more pages
+    @GetMapping("")
+    public TicketPageResponse findTickets(
+            @RequestParam(required = false) @Positive(message = "Employee ID must be a positive number") Long employeeId,
+            @RequestParam(required = false) Priority priority,
+            @RequestParam(required = false) IssueCategory category,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(required = false) TicketSort sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ticketService.findTickets(new TicketFilter(employeeId, priority, category, createdFrom, createdTo),
+                sort, cursor, size);
+    }
+
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public void exportTickets(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            HttpServletResponse response) throws IOException {
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        ticketService.exportTickets(createdFrom, response.getOutputStream());
     }
 }
\ No newline at end of file
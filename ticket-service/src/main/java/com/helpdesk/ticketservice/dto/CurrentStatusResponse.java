@@ -0,0 +1,13 @@
+package com.helpdesk.ticketservice.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// A ticket's current status as reported by the status service's POST /status/current
+@Data
+public class CurrentStatusResponse {
+    private Long ticketId;
+    private String currentStatus;
+    private LocalDateTime lastUpdatedAt;
+}
@@ -0,0 +1,16 @@
+package com.helpdesk.ticketservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxStatsResponse {
+    private long pending;
+    private long deadLettered;
+    private long lagMillis; // Age of the oldest undelivered entry, 0 when the outbox is drained
+    private long delivered;
+    private long failedAttempts;
+}
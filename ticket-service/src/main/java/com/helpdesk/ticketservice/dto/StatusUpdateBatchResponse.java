@@ -0,0 +1,12 @@
+package com.helpdesk.ticketservice.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class StatusUpdateBatchResponse {
+    private int succeeded;
+    private int failed;
+    private List<StatusUpdateItemResult> results;
+}
@@ -0,0 +1,11 @@
+package com.helpdesk.ticketservice.dto;
+
+import lombok.Data;
+
+@Data
+public class StatusUpdateItemResult {
+    private int index;
+    private Long ticketId;
+    private boolean success;
+    private String error;
+}
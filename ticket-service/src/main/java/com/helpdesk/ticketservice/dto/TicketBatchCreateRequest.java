@@ -0,0 +1,16 @@
+package com.helpdesk.ticketservice.dto;
+
+import lombok.Data;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import java.util.List;
+
+@Data
+public class TicketBatchCreateRequest {
+
+    @Valid
+    @NotEmpty(message = "At least one ticket is required")
+    @Size(max = 100, message = "At most 100 tickets can be created at once")
+    private List<@NotNull(message = "Ticket is required") TicketCreateRequest> tickets;
+}
@@ -0,0 +1,14 @@
+package com.helpdesk.ticketservice.dto;
+
+import lombok.Data;
+
+import jakarta.validation.constraints.*;
+import java.util.List;
+
+@Data
+public class TicketLookupRequest {
+
+    @NotEmpty(message = "At least one ticket ID is required")
+    @Size(max = 1000, message = "At most 1000 ticket IDs can be looked up at once")
+    private List<@NotNull(message = "Ticket ID is required") @Positive(message = "Ticket ID must be a positive number") Long> ticketIds;
+}
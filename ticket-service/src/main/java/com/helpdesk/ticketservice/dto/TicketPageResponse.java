@@ -0,0 +1,15 @@
+package com.helpdesk.ticketservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketPageResponse {
+    private List<TicketResponse> items;
+    private String nextCursor; // Opaque token for the next page, null on the last page
+}
@@ -0,0 +1,17 @@
+package com.helpdesk.ticketservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketSearchResponse {
+    private List<TicketResponse> items; // Best matches first
+    private long totalHits; // Tickets matching at least one search term
+    private int page;
+    private int size;
+}
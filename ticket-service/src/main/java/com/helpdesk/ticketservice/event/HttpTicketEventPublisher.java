@@ -0,0 +1,60 @@
+package com.helpdesk.ticketservice.event;
+
+import com.helpdesk.common.client.ResilientExchangeFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "ticket-events.transport", havingValue = "http", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class HttpTicketEventPublisher implements TicketEventPublisher {
+
+    private final WebClient webClient;
+
+    @Override
+    public void publish(TicketCreatedEvent event) {
+        log.debug("Publishing ticket-created event for ticket {}", event.getTicketId());
+
+        webClient.post()
+                .uri("/events/tickets")
+                .attribute(ResilientExchangeFilter.IDEMPOTENT, true) // registering a ticket twice is a no-op
+                .bodyValue(event)
+                .retrieve()
+                .toBodilessEntity()
+                .onErrorResume(ex -> {
+                    // The status service catches up from the ticket list, so a lost event is not fatal
+                    log.warn("Failed to publish ticket-created event for ticket {}: {}",
+                            event.getTicketId(), ex.getMessage());
+                    return Mono.empty();
+                })
+                .subscribe();
+    }
+
+    @Override
+    public void publishAll(List<TicketCreatedEvent> events) {
+        if (events.size() == 1) {
+            publish(events.get(0));
+            return;
+        }
+        log.debug("Publishing {} ticket-created events", events.size());
+
+        webClient.post()
+                .uri("/events/tickets/batch")
+                .attribute(ResilientExchangeFilter.IDEMPOTENT, true)
+                .bodyValue(events)
+                .retrieve()
+                .toBodilessEntity()
+                .onErrorResume(ex -> {
+                    log.warn("Failed to publish {} ticket-created events: {}", events.size(), ex.getMessage());
+                    return Mono.empty();
+                })
+                .subscribe();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.helpdesk.ticketservice.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+// Transport for single-JVM setups and tests: events are published to this application context, where a
+// harness running both services forwards them to the status service (see BenchmarkContexts in the
+// benchmarks module). Without such a listener they are dropped.
+@Component
+@ConditionalOnProperty(name = "ticket-events.transport", havingValue = "in-process")
+@RequiredArgsConstructor
+public class InProcessTicketEventPublisher implements TicketEventPublisher {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    public void publish(TicketCreatedEvent event) {
+        applicationEventPublisher.publishEvent(event);
+    }
+}
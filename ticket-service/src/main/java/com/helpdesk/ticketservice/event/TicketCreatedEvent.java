@@ -0,0 +1,15 @@
+package com.helpdesk.ticketservice.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketCreatedEvent {
+    private Long ticketId;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,13 @@
+package com.helpdesk.ticketservice.event;
+
+import java.util.List;
+
+// Transport for ticket-created events, selected with the ticket-events.transport property
+public interface TicketEventPublisher {
+
+    void publish(TicketCreatedEvent event);
+
+    default void publishAll(List<TicketCreatedEvent> events) {
+        events.forEach(this::publish);
+    }
+}
@@ -1,5 +1,7 @@
 package com.helpdesk.ticketservice.exception;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -16,12 +18,16 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 @RestControllerAdvice
+@RequiredArgsConstructor
 @Slf4j
 public class GlobalExceptionHandler {
 
+  private final MeterRegistry meterRegistry;
+
   @ExceptionHandler(TicketNotFoundException.class)
   public ResponseEntity<Map<String, Object>> handleTicketNotFound(TicketNotFoundException ex) {
     log.error("Ticket not found exception caught: {}", ex.getMessage());
+    countError("not_found");
 
     Map<String, Object> errorResponse = new HashMap<>();
     errorResponse.put("timestamp", LocalDateTime.now());
@@ -33,9 +39,24 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
   }
 
+  @ExceptionHandler(IllegalArgumentException.class)
+  public ResponseEntity<Map<String, Object>> handleIllegalArgument(IllegalArgumentException ex) {
+    log.error("IllegalArgumentException caught in Ticket Service: {}", ex.getMessage());
+    countError("invalid_input");
+
+    Map<String, Object> errorResponse = new HashMap<>();
+    errorResponse.put("timestamp", LocalDateTime.now());
+    errorResponse.put("status", HttpStatus.BAD_REQUEST.value());
+    errorResponse.put("error", "Invalid Input");
+    errorResponse.put("message", ex.getMessage());
+
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+  }
+
   @ExceptionHandler(MethodArgumentNotValidException.class)
   public ResponseEntity<Map<String, Object>> handleValidationErrors(MethodArgumentNotValidException ex) {
     log.error("Validation error: {}", ex.getMessage());
+    countError("validation");
 
     Map<String, Object> errorResponse = new HashMap<>();
     errorResponse.put("timestamp", LocalDateTime.now());
@@ -59,6 +80,7 @@ public class GlobalExceptionHandler {
   @ExceptionHandler(ConstraintViolationException.class)
   public ResponseEntity<Map<String, Object>> handleConstraintViolation(ConstraintViolationException ex) {
     log.error("Constraint violation: {}", ex.getMessage());
+    countError("validation");
 
     Map<String, Object> errorResponse = new HashMap<>();
     errorResponse.put("timestamp", LocalDateTime.now());
@@ -77,6 +99,7 @@ public class GlobalExceptionHandler {
   @ExceptionHandler(HttpMessageNotReadableException.class)
   public ResponseEntity<Map<String, Object>> handleJsonParseError(HttpMessageNotReadableException ex) {
     log.error("JSON parsing error in Ticket Service: {}", ex.getMessage());
+    countError("invalid_json");
 
     Map<String, Object> errorResponse = new HashMap<>();
     errorResponse.put("timestamp", LocalDateTime.now());
@@ -103,7 +126,7 @@ public class GlobalExceptionHandler {
   public ResponseEntity<Map<String, Object>> handleRuntimeException(RuntimeException ex) {
     // Don't handle HttpMessageNotReadableException here - let the specific handler
     // deal with it
-    if (ex instanceof HttpMessageNotReadableException) {
+    if (ex instanceof HttpMessageNotReadableException || ex instanceof IllegalArgumentException) {
       throw ex; // Re-throw to be caught by the specific handler
     }
 
@@ -147,4 +170,9 @@ public class GlobalExceptionHandler {
 
     return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
   }
+
+  // Exposed as helpdesk_errors_total{type=...} on the Prometheus endpoint
+  private void countError(String type) {
+    meterRegistry.counter("helpdesk.errors", "type", type).increment();
+  }
 }
\ No newline at end of file
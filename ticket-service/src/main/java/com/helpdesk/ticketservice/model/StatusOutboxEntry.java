@@ -0,0 +1,47 @@
+package com.helpdesk.ticketservice.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "status_outbox")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusOutboxEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "status_outbox_seq")
+    @SequenceGenerator(name = "status_outbox_seq", sequenceName = "status_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long ticketId;
+
+    @Column(nullable = false)
+    private String status;
+
+    @Column(nullable = false)
+    private String updatedBy;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    // Set once the entry has used up its attempts; such entries are no longer relayed
+    private LocalDateTime deadLetteredAt;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
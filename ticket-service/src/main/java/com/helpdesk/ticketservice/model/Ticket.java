@@ -16,7 +16,8 @@ import java.time.LocalDateTime;
 public class Ticket {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ticket_seq")
+    @SequenceGenerator(name = "ticket_seq", sequenceName = "tickets_seq", allocationSize = 50)
     private Long ticketId;
     
     @Column(nullable = false)
@@ -0,0 +1,7 @@
+package com.helpdesk.ticketservice.model;
+
+// Orders of GET /tickets; ticket ID breaks ties between equal creation times
+public enum TicketSort {
+    NEWEST,
+    OLDEST
+}
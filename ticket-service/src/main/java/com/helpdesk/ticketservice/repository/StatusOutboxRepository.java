@@ -0,0 +1,40 @@
+package com.helpdesk.ticketservice.repository;
+
+import com.helpdesk.ticketservice.model.StatusOutboxEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StatusOutboxRepository extends JpaRepository<StatusOutboxEntry, Long> {
+
+    // Locks the returned rows until the caller's transaction ends and skips rows another transaction has
+    // locked, so relays sharing the database claim disjoint batches. The caller leases them with lease()
+    // before committing; the lock only has to last as long as that claim. The due rows are picked in a subquery
+    // because H2 locks every row the due index matches when the limit sits on the locking query; here the
+    // limit applies before the skip, so a relay whose batch another relay holds gets nothing until the
+    // next poll. Native SQL because Hibernate's H2 dialect renders a pessimistic lock without SKIP LOCKED.
+    @Query(value = "SELECT * FROM status_outbox WHERE id IN (SELECT id FROM status_outbox " +
+            "WHERE dead_lettered_at IS NULL AND next_attempt_at <= :now ORDER BY id LIMIT :limit) " +
+            "ORDER BY id FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<StatusOutboxEntry> findDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // Moves the next attempt of claimed entries to the end of the lease, so no relay finds them due while
+    // they are being delivered outside any transaction
+    @Modifying
+    @Query("UPDATE StatusOutboxEntry e SET e.nextAttemptAt = :leaseEnd WHERE e.id IN :ids")
+    int lease(@Param("ids") Collection<Long> ids, @Param("leaseEnd") LocalDateTime leaseEnd);
+
+    Optional<StatusOutboxEntry> findFirstByDeadLetteredAtIsNullOrderByIdAsc();
+
+    long countByDeadLetteredAtIsNull();
+
+    long countByDeadLetteredAtIsNotNull();
+}
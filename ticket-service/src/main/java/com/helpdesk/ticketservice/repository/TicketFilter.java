@@ -0,0 +1,12 @@
+package com.helpdesk.ticketservice.repository;
+
+import com.helpdesk.ticketservice.model.IssueCategory;
+import com.helpdesk.ticketservice.model.Priority;
+
+import java.time.LocalDateTime;
+
+// Optional criteria of a filtered ticket query; null fields do not filter.
+// createdFrom is inclusive, createdTo exclusive.
+public record TicketFilter(Long employeeId, Priority priority, IssueCategory category,
+                           LocalDateTime createdFrom, LocalDateTime createdTo) {
+}
@@ -2,15 +2,76 @@ package com.helpdesk.ticketservice.repository;
 
 import com.helpdesk.ticketservice.model.Priority;
 import com.helpdesk.ticketservice.model.Ticket;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface TicketRepository extends JpaRepository<Ticket, Long> {
+public interface TicketRepository extends JpaRepository<Ticket, Long>, TicketRepositoryCustom {
     
     List<Ticket> findByEmployeeId(Long employeeId);
     
     List<Ticket> findByPriority(Priority priority);
+
+    // Keyset page: rows strictly after the last seen ticket ID, optionally filtered. One query per filter
+    // combination, since "(:x IS NULL OR ...)" conditions keep the database from seeking in an index
+    default List<Ticket> findPageAfter(Long afterId, Long employeeId, Priority priority, Pageable pageable) {
+        if (employeeId != null && priority != null) {
+            return findPageAfterByEmployeeIdAndPriority(afterId, employeeId, priority, pageable);
+        }
+        if (employeeId != null) {
+            return findPageAfterByEmployeeId(afterId, employeeId, pageable);
+        }
+        if (priority != null) {
+            return findPageAfterByPriority(afterId, priority, pageable);
+        }
+        return findPageAfter(afterId, pageable);
+    }
+
+    @Query("SELECT t FROM Ticket t WHERE t.ticketId > :afterId ORDER BY t.ticketId ASC")
+    List<Ticket> findPageAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT t FROM Ticket t WHERE t.employeeId = :employeeId AND t.ticketId > :afterId " +
+            "ORDER BY t.ticketId ASC")
+    List<Ticket> findPageAfterByEmployeeId(@Param("afterId") Long afterId,
+                                           @Param("employeeId") Long employeeId,
+                                           Pageable pageable);
+
+    @Query("SELECT t FROM Ticket t WHERE t.priority = :priority AND t.ticketId > :afterId " +
+            "ORDER BY t.ticketId ASC")
+    List<Ticket> findPageAfterByPriority(@Param("afterId") Long afterId,
+                                         @Param("priority") Priority priority,
+                                         Pageable pageable);
+
+    @Query("SELECT t FROM Ticket t WHERE t.employeeId = :employeeId AND t.priority = :priority " +
+            "AND t.ticketId > :afterId ORDER BY t.ticketId ASC")
+    List<Ticket> findPageAfterByEmployeeIdAndPriority(@Param("afterId") Long afterId,
+                                                      @Param("employeeId") Long employeeId,
+                                                      @Param("priority") Priority priority,
+                                                      Pageable pageable);
+
+    // Keyset page of tickets created before a time, in ID order
+    @Query("SELECT t FROM Ticket t WHERE t.ticketId > :afterId AND t.createdAt < :createdBefore " +
+            "ORDER BY t.ticketId ASC")
+    List<Ticket> findCreatedBefore(@Param("afterId") Long afterId,
+                                   @Param("createdBefore") LocalDateTime createdBefore,
+                                   Pageable pageable);
+
+    // Cursor-backed stream for exports; must be consumed inside a transaction
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Ticket t WHERE (:createdFrom IS NULL OR t.createdAt >= :createdFrom) " +
+            "ORDER BY t.ticketId ASC")
+    Stream<Ticket> streamForExport(@Param("createdFrom") LocalDateTime createdFrom);
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.helpdesk.ticketservice.repository;
+
+import com.helpdesk.ticketservice.model.Ticket;
+import com.helpdesk.ticketservice.model.TicketSort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TicketRepositoryCustom {
+
+    // Keyset page of the tickets matching the filter, in sort order after (afterCreatedAt, afterId);
+    // both are null for the first page
+    List<Ticket> findFiltered(TicketFilter filter, TicketSort sort,
+                              LocalDateTime afterCreatedAt, Long afterId, int limit);
+}
@@ -0,0 +1,74 @@
+package com.helpdesk.ticketservice.repository;
+
+import com.helpdesk.ticketservice.model.Ticket;
+import com.helpdesk.ticketservice.model.TicketSort;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Builds the WHERE clause from the criteria that are present only. Unlike "(:x IS NULL OR ...)"
+// conditions, this lets the database pick the composite index matching the filters in use.
+@RequiredArgsConstructor
+public class TicketRepositoryImpl implements TicketRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<Ticket> findFiltered(TicketFilter filter, TicketSort sort,
+                                     LocalDateTime afterCreatedAt, Long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Ticket> query = cb.createQuery(Ticket.class);
+        Root<Ticket> ticket = query.from(Ticket.class);
+        Path<LocalDateTime> createdAt = ticket.get("createdAt");
+        Path<Long> ticketId = ticket.get("ticketId");
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.employeeId() != null) {
+            predicates.add(cb.equal(ticket.get("employeeId"), filter.employeeId()));
+        }
+        if (filter.priority() != null) {
+            predicates.add(cb.equal(ticket.get("priority"), filter.priority()));
+        }
+        if (filter.category() != null) {
+            predicates.add(cb.equal(ticket.get("issueCategory"), filter.category()));
+        }
+        if (filter.createdFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(createdAt, filter.createdFrom()));
+        }
+        if (filter.createdTo() != null) {
+            predicates.add(cb.lessThan(createdAt, filter.createdTo()));
+        }
+
+        boolean newestFirst = sort == TicketSort.NEWEST;
+        if (afterCreatedAt != null && afterId != null) {
+            // Rows strictly after the last one returned, in (createdAt, ticketId) order. The plain
+            // bound on createdAt gives the database a range to seek to.
+            predicates.add(newestFirst
+                    ? cb.lessThanOrEqualTo(createdAt, afterCreatedAt)
+                    : cb.greaterThanOrEqualTo(createdAt, afterCreatedAt));
+            predicates.add(newestFirst
+                    ? cb.or(cb.lessThan(createdAt, afterCreatedAt),
+                            cb.and(cb.equal(createdAt, afterCreatedAt), cb.lessThan(ticketId, afterId)))
+                    : cb.or(cb.greaterThan(createdAt, afterCreatedAt),
+                            cb.and(cb.equal(createdAt, afterCreatedAt), cb.greaterThan(ticketId, afterId))));
+        }
+
+        query.select(ticket)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(newestFirst
+                        ? List.of(cb.desc(createdAt), cb.desc(ticketId))
+                        : List.of(cb.asc(createdAt), cb.asc(ticketId)));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,353 @@
+package com.helpdesk.ticketservice.search;
+
+import com.helpdesk.ticketservice.model.Ticket;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+// In-memory inverted index over ticket descriptions and employee names, ranked with BM25.
+// Tickets are added once committed; TicketSearchIndexLoader rebuilds it from the database on startup.
+// Postings are kept in ticket insertion order, so a query merges its terms' postings in one pass
+// and keeps only the best hits in a bounded heap.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TicketSearchIndex {
+
+    public record Hits(List<Long> ticketIds, long totalHits) {
+    }
+
+    // Each posting packs the document number and the term frequency into one int
+    private static final int FREQUENCY_BITS = 8;
+    private static final int MAX_FREQUENCY = (1 << FREQUENCY_BITS) - 1;
+    private static final int MAX_DOCUMENTS = 1 << (32 - FREQUENCY_BITS);
+
+    // A name match counts as much as two description matches
+    private static final int NAME_WEIGHT = 2;
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "i", "in", "is", "it", "my",
+            "of", "on", "or", "the", "to", "with");
+
+    private final MeterRegistry meterRegistry;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Guarded by lock; rebuildPending collects the tickets added while a rebuild is running
+    private Index index = new Index();
+    private List<Ticket> rebuildPending;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("ticket.search.index.size", this, TicketSearchIndex::size)
+                .description("Tickets in the search index")
+                .register(meterRegistry);
+    }
+
+    public void addAll(Collection<Ticket> tickets) {
+        lock.writeLock().lock();
+        try {
+            tickets.forEach(index::add);
+            if (rebuildPending != null) {
+                rebuildPending.addAll(tickets);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Builds a new index from tickets in ascending ID order, then swaps it in. Searches keep using the
+    // current index meanwhile, and tickets added during the rebuild are carried over.
+    public void rebuild(Stream<Ticket> tickets) {
+        lock.writeLock().lock();
+        try {
+            rebuildPending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Index rebuilt = new Index();
+        try {
+            tickets.forEach(rebuilt::add);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                rebuildPending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            int loaded = rebuilt.documentCount;
+            for (Ticket ticket : rebuildPending) {
+                if (!rebuilt.containsTicket(ticket.getTicketId(), loaded)) {
+                    rebuilt.add(ticket);
+                }
+            }
+            index = rebuilt;
+            rebuildPending = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Search index rebuilt with {} tickets and {} terms", rebuilt.documentCount, rebuilt.terms.size());
+    }
+
+    // Best matches first: any query term may match, tickets matching more and rarer terms rank higher
+    public Hits search(String query, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        lock.readLock().lock();
+        try {
+            return index.search(terms, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.documentCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Lowercased letter and digit runs, apostrophes removed ("won't" -> "wont"), stop words dropped
+    // and plural "s" stripped, so "drops" matches "drop"
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                token.append(Character.toLowerCase(c));
+            } else if (c != '\'' && c != '\u2019' && token.length() > 0) {
+                String term = token.toString();
+                token.setLength(0);
+                if (STOP_WORDS.contains(term)) {
+                    continue;
+                }
+                if (term.length() > 3 && term.endsWith("s") && !term.endsWith("ss")) {
+                    term = term.substring(0, term.length() - 1);
+                }
+                tokens.add(term);
+            }
+        }
+        return tokens;
+    }
+
+    private static final class Index {
+
+        private final Map<String, Postings> terms = new HashMap<>();
+        private long[] ticketIds = new long[1024];
+        private int[] lengths = new int[1024];
+        private int documentCount;
+        private long totalLength;
+
+        void add(Ticket ticket) {
+            if (documentCount == MAX_DOCUMENTS) {
+                throw new IllegalStateException("Search index is full");
+            }
+            if (documentCount == ticketIds.length) {
+                ticketIds = Arrays.copyOf(ticketIds, documentCount * 2);
+                lengths = Arrays.copyOf(lengths, documentCount * 2);
+            }
+
+            Map<String, Integer> frequencies = new HashMap<>();
+            int length = count(ticket.getDescription(), 1, frequencies)
+                    + count(ticket.getEmployeeName(), NAME_WEIGHT, frequencies);
+            int document = documentCount++;
+            ticketIds[document] = ticket.getTicketId();
+            lengths[document] = length;
+            totalLength += length;
+            frequencies.forEach((term, frequency) ->
+                    terms.computeIfAbsent(term, t -> new Postings()).add(document, frequency));
+        }
+
+        // Whether the ticket is among the first documents, which were added in ascending ticket ID order
+        boolean containsTicket(long ticketId, int documents) {
+            return Arrays.binarySearch(ticketIds, 0, documents, ticketId) >= 0;
+        }
+
+        Hits search(List<String> queryTerms, int limit) {
+            List<Postings> postings = new ArrayList<>();
+            List<Float> weights = new ArrayList<>();
+            for (String term : queryTerms) {
+                Postings termPostings = terms.get(term);
+                if (termPostings != null) {
+                    postings.add(termPostings);
+                    // BM25 inverse document frequency
+                    weights.add((float) Math.log(1 + (documentCount - termPostings.size + 0.5)
+                            / (termPostings.size + 0.5)));
+                }
+            }
+            if (postings.isEmpty() || limit < 1) {
+                return new Hits(List.of(), 0);
+            }
+            float[] idf = new float[weights.size()];
+            for (int i = 0; i < idf.length; i++) {
+                idf[i] = weights.get(i);
+            }
+
+            float averageLength = (float) totalLength / documentCount;
+            int[] cursors = new int[postings.size()];
+            TopHits top = new TopHits(limit);
+            long totalHits = 0;
+            while (true) {
+                // Next document in any of the postings lists
+                int document = Integer.MAX_VALUE;
+                for (int i = 0; i < cursors.length; i++) {
+                    Postings list = postings.get(i);
+                    if (cursors[i] < list.size) {
+                        document = Math.min(document, list.entries[cursors[i]] >>> FREQUENCY_BITS);
+                    }
+                }
+                if (document == Integer.MAX_VALUE) {
+                    break;
+                }
+
+                float norm = K1 * (1 - B + B * lengths[document] / averageLength);
+                float score = 0;
+                for (int i = 0; i < cursors.length; i++) {
+                    Postings list = postings.get(i);
+                    if (cursors[i] < list.size && list.entries[cursors[i]] >>> FREQUENCY_BITS == document) {
+                        int frequency = list.entries[cursors[i]] & MAX_FREQUENCY;
+                        score += idf[i] * frequency * (K1 + 1) / (frequency + norm);
+                        cursors[i]++;
+                    }
+                }
+                totalHits++;
+                top.offer(document, score);
+            }
+
+            int[] ranked = top.documentsBestFirst();
+            List<Long> rankedTicketIds = new ArrayList<>(ranked.length);
+            for (int document : ranked) {
+                rankedTicketIds.add(ticketIds[document]);
+            }
+            return new Hits(rankedTicketIds, totalHits);
+        }
+
+        private static int count(String text, int weight, Map<String, Integer> frequencies) {
+            List<String> tokens = tokenize(text);
+            tokens.forEach(token -> frequencies.merge(token, weight, Integer::sum));
+            return tokens.size() * weight;
+        }
+    }
+
+    private static final class Postings {
+
+        private int[] entries = new int[2];
+        private int size;
+
+        void add(int document, int frequency) {
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size + (size >> 1) + 1);
+            }
+            entries[size++] = document << FREQUENCY_BITS | Math.min(frequency, MAX_FREQUENCY);
+        }
+    }
+
+    // Min-heap of the best documents seen so far; on equal scores the newer ticket wins
+    private static final class TopHits {
+
+        private final int[] documents;
+        private final float[] scores;
+        private int size;
+
+        TopHits(int capacity) {
+            documents = new int[capacity];
+            scores = new float[capacity];
+        }
+
+        void offer(int document, float score) {
+            if (size < documents.length) {
+                documents[size] = document;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (better(document, score, 0)) {
+                documents[0] = document;
+                scores[0] = score;
+                siftDown(0);
+            }
+        }
+
+        int[] documentsBestFirst() {
+            int[] ranked = new int[size];
+            for (int i = size - 1; i >= 0; i--) {
+                ranked[i] = documents[0];
+                size--;
+                documents[0] = documents[size];
+                scores[0] = scores[size];
+                siftDown(0);
+            }
+            return ranked;
+        }
+
+        private boolean better(int document, float score, int slot) {
+            return score > scores[slot] || (score == scores[slot] && document > documents[slot]);
+        }
+
+        private void siftUp(int slot) {
+            while (slot > 0) {
+                int parent = (slot - 1) / 2;
+                if (!better(documents[parent], scores[parent], slot)) {
+                    return;
+                }
+                swap(slot, parent);
+                slot = parent;
+            }
+        }
+
+        private void siftDown(int slot) {
+            while (true) {
+                int worst = slot;
+                int left = 2 * slot + 1;
+                int right = left + 1;
+                if (left < size && better(documents[worst], scores[worst], left)) {
+                    worst = left;
+                }
+                if (right < size && better(documents[worst], scores[worst], right)) {
+                    worst = right;
+                }
+                if (worst == slot) {
+                    return;
+                }
+                swap(slot, worst);
+                slot = worst;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int document = documents[a];
+            documents[a] = documents[b];
+            documents[b] = document;
+            float score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+        }
+    }
+}
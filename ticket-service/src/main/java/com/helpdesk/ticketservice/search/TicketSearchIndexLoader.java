@@ -0,0 +1,66 @@
+package com.helpdesk.ticketservice.search;
+
+import com.helpdesk.ticketservice.model.Ticket;
+import com.helpdesk.ticketservice.repository.TicketRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Stream;
+
+// Rebuilds the search index from the tickets table on startup. Until it finishes, searches only see
+// tickets created since startup. With ticket-search.rebuild-in-background the application reports
+// ready without waiting for it.
+@Component
+@ConditionalOnProperty(name = "ticket-search.rebuild-on-startup", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class TicketSearchIndexLoader implements ApplicationRunner {
+
+    private final TicketRepository ticketRepository;
+    private final TicketSearchIndex ticketSearchIndex;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${ticket-search.rebuild-in-background:false}")
+    private boolean rebuildInBackground;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!rebuildInBackground) {
+            rebuild();
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                rebuild();
+            } catch (Exception e) {
+                // Not fatal: new tickets are still indexed as they are created
+                log.warn("Ticket search index rebuild failed: {}", e.getMessage());
+            }
+        }, "ticket-search-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void rebuild() {
+        log.info("Rebuilding ticket search index");
+        long start = System.nanoTime();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        transaction.executeWithoutResult(status -> {
+            // Detached as they stream past so the persistence context does not hold every ticket
+            try (Stream<Ticket> tickets = ticketRepository.streamForExport(null)) {
+                ticketSearchIndex.rebuild(tickets.peek(entityManager::detach));
+            }
+        });
+        log.info("Ticket search index ready in {} ms", (System.nanoTime() - start) / 1_000_000);
+    }
+}
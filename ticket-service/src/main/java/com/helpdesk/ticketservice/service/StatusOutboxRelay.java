@@ -0,0 +1,219 @@
+package com.helpdesk.ticketservice.service;
+
+import com.helpdesk.ticketservice.client.StatusServiceClient;
+import com.helpdesk.ticketservice.dto.OutboxStatsResponse;
+import com.helpdesk.ticketservice.dto.StatusUpdateBatchResponse;
+import com.helpdesk.ticketservice.dto.StatusUpdateItemResult;
+import com.helpdesk.ticketservice.model.StatusOutboxEntry;
+import com.helpdesk.ticketservice.repository.StatusOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+// Drains the status outbox into the status service. Delivery is at-least-once: an entry is
+// deleted only after the status service accepted it, and failures are retried with backoff.
+// A batch is claimed in a short transaction that locks its rows, skipping rows other relays hold, and
+// leases them by moving their next attempt status-outbox.lease-ms ahead. Delivery runs with no
+// transaction or connection held, and the results are settled in a second short transaction. A relay
+// that dies mid-batch leaves its entries to be picked up again once the lease runs out; the lease must
+// outlast a batch, whose chunks take at most the status service call deadline each.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StatusOutboxRelay {
+
+    private final StatusOutboxRepository outboxRepository;
+    private final StatusServiceClient statusServiceClient;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicLong deliveredCount = new AtomicLong();
+    private final AtomicLong failedAttemptCount = new AtomicLong();
+    private Counter deadLetteredCounter;
+
+    @Value("${status-outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${status-outbox.chunk-size:100}")
+    private int chunkSize;
+
+    @Value("${status-outbox.concurrency:4}")
+    private int concurrency;
+
+    @Value("${status-outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${status-outbox.base-backoff-ms:500}")
+    private long baseBackoffMs;
+
+    @Value("${status-outbox.max-backoff-ms:60000}")
+    private long maxBackoffMs;
+
+    @Value("${status-outbox.lease-ms:60000}")
+    private long leaseMs;
+
+    @PostConstruct
+    void registerMetrics() {
+        FunctionCounter.builder("status.outbox.delivered", deliveredCount, AtomicLong::get)
+                .description("Outbox entries accepted by the status service")
+                .register(meterRegistry);
+        FunctionCounter.builder("status.outbox.failed.attempts", failedAttemptCount, AtomicLong::get)
+                .description("Outbox delivery attempts that failed and were rescheduled or dead-lettered")
+                .register(meterRegistry);
+        deadLetteredCounter = Counter.builder("status.outbox.dead.lettered")
+                .description("Outbox entries that exhausted their delivery attempts")
+                .register(meterRegistry);
+        Gauge.builder("status.outbox.pending", outboxRepository, StatusOutboxRepository::countByDeadLetteredAtIsNull)
+                .description("Outbox entries waiting for delivery")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${status-outbox.poll-interval-ms:500}")
+    public void drain() {
+        // Keep going while full batches are delivered cleanly; back off to the poll interval otherwise
+        while (drainBatch()) {
+            log.debug("Outbox batch fully delivered, draining next batch");
+        }
+    }
+
+    public OutboxStatsResponse getStats() {
+        long lagMillis = outboxRepository.findFirstByDeadLetteredAtIsNullOrderByIdAsc()
+                .map(oldest -> Duration.between(oldest.getCreatedAt(), LocalDateTime.now()).toMillis())
+                .orElse(0L);
+        return new OutboxStatsResponse(outboxRepository.countByDeadLetteredAtIsNull(),
+                outboxRepository.countByDeadLetteredAtIsNotNull(), lagMillis,
+                deliveredCount.get(), failedAttemptCount.get());
+    }
+
+    private boolean drainBatch() {
+        List<StatusOutboxEntry> batch = transactionTemplate.execute(tx -> claimBatch());
+        if (batch.isEmpty()) {
+            return false;
+        }
+
+        // One batch call per chunk, with bounded concurrency so bursts cannot flood the status service
+        List<DeliveryResult> results = Flux.fromIterable(partition(batch, chunkSize))
+                .flatMap(chunk -> statusServiceClient.postStatuses(chunk)
+                        .map(response -> toResults(chunk, response))
+                        .onErrorResume(ex -> Mono.just(chunk.stream()
+                                .map(entry -> new DeliveryResult(entry, ex))
+                                .collect(Collectors.toList()))), concurrency)
+                .flatMapIterable(chunkResults -> chunkResults)
+                .collectList()
+                .block();
+
+        List<Long> deliveredIds = new ArrayList<>();
+        List<StatusOutboxEntry> failed = new ArrayList<>();
+        for (DeliveryResult result : results) {
+            if (result.error() == null) {
+                deliveredIds.add(result.entry().getId());
+            } else {
+                failed.add(markFailed(result.entry(), result.error()));
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(tx -> settle(deliveredIds, failed));
+        if (!failed.isEmpty()) {
+            log.warn("{} of {} outbox entries failed delivery", failed.size(), batch.size());
+        }
+
+        return failed.isEmpty() && batch.size() == batchSize;
+    }
+
+    private List<StatusOutboxEntry> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<StatusOutboxEntry> batch = outboxRepository.findDue(now, batchSize);
+        if (!batch.isEmpty()) {
+            outboxRepository.lease(batch.stream().map(StatusOutboxEntry::getId).collect(Collectors.toList()),
+                    now.plus(Duration.ofMillis(leaseMs)));
+        }
+        return batch;
+    }
+
+    private void settle(List<Long> deliveredIds, List<StatusOutboxEntry> failed) {
+        if (!deliveredIds.isEmpty()) {
+            outboxRepository.deleteAllByIdInBatch(deliveredIds);
+        }
+        if (!failed.isEmpty()) {
+            outboxRepository.saveAll(failed);
+        }
+        long deadLettered = failed.stream().filter(entry -> entry.getDeadLetteredAt() != null).count();
+        // Counted only once the outcome is stored; a failed commit leaves the entries to be delivered again
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deliveredCount.addAndGet(deliveredIds.size());
+                failedAttemptCount.addAndGet(failed.size());
+                deadLetteredCounter.increment(deadLettered);
+            }
+        });
+    }
+
+    private List<DeliveryResult> toResults(List<StatusOutboxEntry> chunk, StatusUpdateBatchResponse response) {
+        List<StatusUpdateItemResult> items = response.getResults() == null ? List.of() : response.getResults();
+        List<DeliveryResult> results = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            StatusOutboxEntry entry = chunk.get(i);
+            if (i < items.size() && items.get(i).isSuccess()) {
+                results.add(new DeliveryResult(entry, null));
+            } else {
+                String error = i < items.size() ? items.get(i).getError() : "No result returned for entry";
+                results.add(new DeliveryResult(entry, new IllegalStateException(error)));
+            }
+        }
+        return results;
+    }
+
+    private static <T> List<List<T>> partition(List<T> items, int size) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += size) {
+            chunks.add(items.subList(from, Math.min(from + size, items.size())));
+        }
+        return chunks;
+    }
+
+    private StatusOutboxEntry markFailed(StatusOutboxEntry entry, Throwable error) {
+        int attempts = entry.getAttempts() + 1;
+        entry.setAttempts(attempts);
+        entry.setLastError(truncate(error.getMessage()));
+
+        if (attempts >= maxAttempts) {
+            log.error("Giving up on initial status for ticket {} after {} attempts: {}",
+                    entry.getTicketId(), attempts, error.getMessage());
+            entry.setDeadLetteredAt(LocalDateTime.now());
+        } else {
+            long backoffMs = Math.min(maxBackoffMs, baseBackoffMs << Math.min(attempts - 1, 20));
+            entry.setNextAttemptAt(LocalDateTime.now().plus(Duration.ofMillis(backoffMs)));
+        }
+        return entry;
+    }
+
+    private String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() <= 500 ? message : message.substring(0, 500);
+    }
+
+    private record DeliveryResult(StatusOutboxEntry entry, Throwable error) {
+    }
+}
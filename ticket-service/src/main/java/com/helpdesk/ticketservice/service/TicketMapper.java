@@ -0,0 +1,33 @@
+package com.helpdesk.ticketservice.service;
+
+import com.helpdesk.ticketservice.dto.TicketCreateRequest;
+import com.helpdesk.ticketservice.dto.TicketResponse;
+import com.helpdesk.ticketservice.model.Ticket;
+import org.springframework.stereotype.Component;
+
+// Converts between the Ticket entity and the API DTOs
+@Component
+public class TicketMapper {
+
+    public Ticket toTicket(TicketCreateRequest request) {
+        Ticket ticket = new Ticket();
+        ticket.setEmployeeId(request.getEmployeeId());
+        ticket.setEmployeeName(request.getEmployeeName());
+        ticket.setIssueCategory(request.getIssueCategory());
+        ticket.setDescription(request.getDescription());
+        ticket.setPriority(request.getPriority());
+        return ticket;
+    }
+
+    public TicketResponse toResponse(Ticket ticket) {
+        TicketResponse response = new TicketResponse();
+        response.setTicketId(ticket.getTicketId());
+        response.setEmployeeId(ticket.getEmployeeId());
+        response.setEmployeeName(ticket.getEmployeeName());
+        response.setIssueCategory(ticket.getIssueCategory());
+        response.setDescription(ticket.getDescription());
+        response.setPriority(ticket.getPriority());
+        response.setCreatedAt(ticket.getCreatedAt());
+        return response;
+    }
+}
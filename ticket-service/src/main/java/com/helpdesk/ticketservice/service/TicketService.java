@@ -1,90 +1,332 @@
 package com.helpdesk.ticketservice.service;
 
-import com.helpdesk.ticketservice.client.StatusServiceClient;
+import com.helpdesk.ticketservice.archive.TicketArchive;
 import com.helpdesk.ticketservice.dto.TicketCreateRequest;
+import com.helpdesk.ticketservice.dto.TicketPageResponse;
 import com.helpdesk.ticketservice.dto.TicketResponse;
+import com.helpdesk.ticketservice.dto.TicketSearchResponse;
+import com.helpdesk.ticketservice.event.TicketCreatedEvent;
+import com.helpdesk.ticketservice.event.TicketEventPublisher;
 import com.helpdesk.ticketservice.exception.TicketNotFoundException;
 import com.helpdesk.ticketservice.model.Priority;
+import com.helpdesk.ticketservice.model.StatusOutboxEntry;
 import com.helpdesk.ticketservice.model.Ticket;
+import com.helpdesk.ticketservice.model.TicketSort;
+import com.helpdesk.ticketservice.repository.StatusOutboxRepository;
+import com.helpdesk.ticketservice.repository.TicketFilter;
 import com.helpdesk.ticketservice.repository.TicketRepository;
+import com.helpdesk.ticketservice.search.TicketSearchIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class TicketService {
 
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+    private static final int DEFAULT_SEARCH_PAGE_SIZE = 20;
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_RESULTS = 1000; // deepest rank a search can page to
+
     private final TicketRepository ticketRepository;
-    private final StatusServiceClient statusServiceClient;
+    private final TicketMapper ticketMapper;
+    private final StatusOutboxRepository statusOutboxRepository;
+    private final TicketEventPublisher ticketEventPublisher;
+    private final TicketSearchIndex ticketSearchIndex;
+    private final TicketArchive ticketArchive;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
 
+    @Transactional
     public TicketResponse createTicket(TicketCreateRequest request) {
         log.info("Creating ticket for employee: {}", request.getEmployeeName());
+        return createTickets(List.of(request)).get(0);
+    }
 
-        // 1. Create and save the ticket
-        Ticket ticket = new Ticket();
-        ticket.setEmployeeId(request.getEmployeeId());
-        ticket.setEmployeeName(request.getEmployeeName());
-        ticket.setIssueCategory(request.getIssueCategory());
-        ticket.setDescription(request.getDescription());
-        ticket.setPriority(request.getPriority());
+    // Tickets, their outbox entries and the ticket-created events are all handled as one batch:
+    // sequence-generated IDs let Hibernate send both inserts as JDBC batches
+    @Transactional
+    public List<TicketResponse> createTickets(List<TicketCreateRequest> requests) {
+        log.info("Creating {} tickets", requests.size());
 
-        Ticket savedTicket = ticketRepository.save(ticket);
-        log.info("Ticket created with ID: {}", savedTicket.getTicketId());
+        // 1. Create and save the tickets
+        List<Ticket> tickets = requests.stream()
+                .map(ticketMapper::toTicket)
+                .collect(Collectors.toList());
+        List<Ticket> savedTickets = ticketRepository.saveAll(tickets);
+        // The batched inserts run here rather than at commit, which also fills in the @CreationTimestamp
+        // values the responses and the ticket-created events carry
+        ticketRepository.flush();
+        log.info("Tickets created with IDs: {}", savedTickets.stream().map(Ticket::getTicketId).collect(Collectors.toList()));
 
-        // 2. Automatically create initial "OPEN" status
-        statusServiceClient.createInitialStatus(savedTicket.getTicketId());
+        // 2. Queue the initial "OPEN" statuses in the same transaction; StatusOutboxRelay delivers them
+        LocalDateTime now = LocalDateTime.now();
+        List<StatusOutboxEntry> outboxEntries = savedTickets.stream()
+                .map(savedTicket -> {
+                    StatusOutboxEntry outboxEntry = new StatusOutboxEntry();
+                    outboxEntry.setTicketId(savedTicket.getTicketId());
+                    outboxEntry.setStatus("OPEN");
+                    outboxEntry.setUpdatedBy("system");
+                    outboxEntry.setNextAttemptAt(now);
+                    return outboxEntry;
+                })
+                .collect(Collectors.toList());
+        statusOutboxRepository.saveAll(outboxEntries);
 
-        return mapToResponse(savedTicket);
+        // 3. Once committed, let subscribers (the status service's ticket registry) know the tickets exist
+        //    and make them searchable
+        List<TicketCreatedEvent> events = savedTickets.stream()
+                .map(savedTicket -> new TicketCreatedEvent(savedTicket.getTicketId(), savedTicket.getCreatedAt()))
+                .collect(Collectors.toList());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ticketEventPublisher.publishAll(events);
+                ticketSearchIndex.addAll(savedTickets);
+            }
+        });
+
+        return savedTickets.stream()
+                .map(ticketMapper::toResponse)
+                .collect(Collectors.toList());
     }
 
     public TicketResponse getTicketById(Long ticketId) {
         log.info("Getting ticket by ID: {}", ticketId);
-        Optional<Ticket> ticket = ticketRepository.findById(ticketId);
+        Optional<Ticket> ticket = ticketRepository.findById(ticketId).or(() -> ticketArchive.findById(ticketId));
         if (ticket.isPresent()) {
             log.info("Ticket found: {}", ticket.get().getTicketId());
-            return mapToResponse(ticket.get());
+            return ticketMapper.toResponse(ticket.get());
         }
         log.warn("Ticket not found, throwing exception for ID: {}", ticketId);
         throw new TicketNotFoundException("Ticket with ID " + ticketId + " not found");
     }
 
+    // A primary key probe, or a lookup in the archive's in-memory ticket IDs; the ticket itself is not read
+    public boolean ticketExists(Long ticketId) {
+        return ticketRepository.existsById(ticketId) || ticketArchive.contains(ticketId);
+    }
+
+    public List<TicketResponse> getTicketsByIds(List<Long> ticketIds) {
+        log.info("Looking up {} tickets by ID", ticketIds.size());
+        List<Ticket> tickets = findAllById(ticketIds);
+        return tickets.stream()
+                .map(ticketMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
     public List<TicketResponse> getTicketsByEmployeeId(Long employeeId) {
         List<Ticket> tickets = ticketRepository.findByEmployeeId(employeeId);
         return tickets.stream()
-                .map(this::mapToResponse)
+                .map(ticketMapper::toResponse)
                 .collect(Collectors.toList());
     }
 
     public List<TicketResponse> getTicketsByPriority(Priority priority) {
         List<Ticket> tickets = ticketRepository.findByPriority(priority);
         return tickets.stream()
-                .map(this::mapToResponse)
+                .map(ticketMapper::toResponse)
                 .collect(Collectors.toList());
     }
 
-    public List<TicketResponse> getAllTickets() {
-        log.info("Getting all tickets");
-        List<Ticket> tickets = ticketRepository.findAll();
-        return tickets.stream()
-                .map(this::mapToResponse)
+    public TicketPageResponse getTicketPage(String cursor, Integer size, Long employeeId, Priority priority) {
+        int pageSize = resolvePageSize(size);
+        long afterId = decodeCursor(cursor);
+        log.info("Getting tickets after ID {} (page size {})", afterId, pageSize);
+
+        // Fetch one extra row to know whether another page exists
+        List<Ticket> tickets = ticketRepository.findPageAfter(afterId, employeeId, priority,
+                PageRequest.of(0, pageSize + 1));
+
+        boolean hasMore = tickets.size() > pageSize;
+        List<Ticket> pageTickets = hasMore ? tickets.subList(0, pageSize) : tickets;
+        String nextCursor = hasMore ? encodeCursor(pageTickets.get(pageSize - 1).getTicketId()) : null;
+
+        List<TicketResponse> items = pageTickets.stream()
+                .map(ticketMapper::toResponse)
+                .collect(Collectors.toList());
+        return new TicketPageResponse(items, nextCursor);
+    }
+
+    // One query built from the filters present, served by the matching composite index. Pages are
+    // keyset pages of at most MAX_PAGE_SIZE tickets, so no request loads an unbounded result.
+    public TicketPageResponse findTickets(TicketFilter filter, TicketSort sort, String cursor, Integer size) {
+        if (filter.createdFrom() != null && filter.createdTo() != null
+                && !filter.createdFrom().isBefore(filter.createdTo())) {
+            throw new IllegalArgumentException("createdFrom must be before createdTo");
+        }
+        TicketSort order = sort == null ? TicketSort.NEWEST : sort;
+        int pageSize = resolvePageSize(size);
+
+        LocalDateTime afterCreatedAt = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] position = decodeFilterCursor(cursor);
+            afterId = Long.parseLong(position[0]);
+            afterCreatedAt = LocalDateTime.parse(position[1]);
+        }
+        log.info("Finding tickets matching {} ({} first, page size {})", filter, order, pageSize);
+
+        // Fetch one extra row to know whether another page exists
+        List<Ticket> tickets = ticketRepository.findFiltered(filter, order, afterCreatedAt, afterId, pageSize + 1);
+
+        boolean hasMore = tickets.size() > pageSize;
+        List<Ticket> pageTickets = hasMore ? tickets.subList(0, pageSize) : tickets;
+        String nextCursor = null;
+        if (hasMore) {
+            Ticket last = pageTickets.get(pageSize - 1);
+            nextCursor = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                    ("f:" + last.getTicketId() + ":" + last.getCreatedAt()).getBytes(StandardCharsets.UTF_8));
+        }
+
+        List<TicketResponse> items = pageTickets.stream()
+                .map(ticketMapper::toResponse)
                 .collect(Collectors.toList());
+        return new TicketPageResponse(items, nextCursor);
     }
 
-    private TicketResponse mapToResponse(Ticket ticket) {
-        TicketResponse response = new TicketResponse();
-        response.setTicketId(ticket.getTicketId());
-        response.setEmployeeId(ticket.getEmployeeId());
-        response.setEmployeeName(ticket.getEmployeeName());
-        response.setIssueCategory(ticket.getIssueCategory());
-        response.setDescription(ticket.getDescription());
-        response.setPriority(ticket.getPriority());
-        response.setCreatedAt(ticket.getCreatedAt());
-        return response;
+    public TicketSearchResponse searchTickets(String query, Integer page, Integer size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be empty");
+        }
+        int pageNumber = page == null ? 0 : page;
+        int pageSize = size == null ? DEFAULT_SEARCH_PAGE_SIZE : size;
+        if (pageNumber < 0 || pageSize < 1) {
+            throw new IllegalArgumentException("Page must not be negative and size must be a positive number");
+        }
+        pageSize = Math.min(pageSize, MAX_SEARCH_PAGE_SIZE);
+        // Long arithmetic so a huge page number is rejected instead of overflowing past the check
+        long start = (long) pageNumber * pageSize;
+        if (start >= MAX_SEARCH_RESULTS) {
+            throw new IllegalArgumentException("Only the first " + MAX_SEARCH_RESULTS + " results can be paged through");
+        }
+        int end = (int) Math.min(start + pageSize, MAX_SEARCH_RESULTS);
+
+        // Ranking is done by the index; only the tickets on the requested page are loaded
+        TicketSearchIndex.Hits hits = ticketSearchIndex.search(query, end);
+        List<Long> ranked = hits.ticketIds();
+        List<Long> pageIds = ranked.subList(Math.min((int) start, ranked.size()), ranked.size());
+        Map<Long, Ticket> ticketsById = findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Ticket::getTicketId, Function.identity()));
+        List<TicketResponse> items = pageIds.stream()
+                .map(ticketsById::get)
+                .filter(Objects::nonNull)
+                .map(ticketMapper::toResponse)
+                .collect(Collectors.toList());
+        log.info("Search for '{}' matched {} tickets", query, hits.totalHits());
+        return new TicketSearchResponse(items, hits.totalHits(), pageNumber, pageSize);
+    }
+
+    @Transactional(readOnly = true)
+    public long exportTickets(LocalDateTime createdFrom, OutputStream outputStream) throws IOException {
+        log.info("Exporting tickets created from {}", createdFrom);
+
+        ObjectWriter writer = objectMapper.writerFor(TicketResponse.class);
+        OutputStream out = new BufferedOutputStream(outputStream, EXPORT_BUFFER_SIZE);
+        long count = 0;
+
+        try (Stream<Ticket> tickets = ticketRepository.streamForExport(createdFrom)) {
+            Iterator<Ticket> iterator = tickets.iterator();
+            while (iterator.hasNext()) {
+                Ticket ticket = iterator.next();
+                out.write(writer.writeValueAsBytes(ticketMapper.toResponse(ticket)));
+                out.write('\n');
+                // Detach each row so the persistence context does not grow with the export
+                entityManager.detach(ticket);
+                count++;
+            }
+        }
+        out.flush();
+
+        log.info("Exported {} tickets", count);
+        return count;
+    }
+
+    // Tickets table first; IDs it does not have are looked up in the archive
+    private List<Ticket> findAllById(List<Long> ticketIds) {
+        List<Ticket> tickets = new ArrayList<>(ticketRepository.findAllById(ticketIds));
+        if (tickets.size() < new HashSet<>(ticketIds).size()) {
+            Set<Long> missing = new HashSet<>(ticketIds);
+            tickets.forEach(ticket -> missing.remove(ticket.getTicketId()));
+            tickets.addAll(ticketArchive.findAllById(missing));
+        }
+        return tickets;
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be a positive number");
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    private String encodeCursor(Long lastTicketId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(("t:" + lastTicketId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith("t:")) {
+                throw new IllegalArgumentException("Invalid page cursor");
+            }
+            return Long.parseLong(decoded.substring(2));
+        } catch (IllegalArgumentException e) {
+            // Also covers NumberFormatException and malformed Base64
+            throw new IllegalArgumentException("Invalid page cursor");
+        }
+    }
+
+    // Returns [ticketId, createdAt] of the last ticket on the previous page
+    private String[] decodeFilterCursor(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(":", 3);
+            if (parts.length != 3 || !parts[0].equals("f")) {
+                throw new IllegalArgumentException("Invalid page cursor");
+            }
+            Long.parseLong(parts[1]);
+            LocalDateTime.parse(parts[2]);
+            return new String[]{parts[1], parts[2]};
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid page cursor");
+        }
     }
 }
\ No newline at end of file
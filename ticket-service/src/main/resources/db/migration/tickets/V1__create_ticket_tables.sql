@@ -0,0 +1,36 @@
+CREATE SEQUENCE tickets_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE tickets (
+    ticket_id      BIGINT        NOT NULL,
+    employee_id    BIGINT        NOT NULL,
+    employee_name  VARCHAR(255)  NOT NULL,
+    issue_category VARCHAR(32)   NOT NULL,
+    description    VARCHAR(1000) NOT NULL,
+    priority       VARCHAR(16)   NOT NULL,
+    created_at     TIMESTAMP(6)  NOT NULL,
+    CONSTRAINT pk_tickets PRIMARY KEY (ticket_id)
+);
+
+-- findByEmployeeId / findByPriority, with ticket_id so keyset pages filter and sort from the index
+CREATE INDEX idx_tickets_employee_id ON tickets (employee_id, ticket_id);
+CREATE INDEX idx_tickets_priority ON tickets (priority, ticket_id);
+-- createdAt lower bound of the NDJSON export
+CREATE INDEX idx_tickets_created_at ON tickets (created_at);
+
+CREATE SEQUENCE status_outbox_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE status_outbox (
+    id               BIGINT       NOT NULL,
+    ticket_id        BIGINT       NOT NULL,
+    status           VARCHAR(32)  NOT NULL,
+    updated_by       VARCHAR(255) NOT NULL,
+    attempts         INT          NOT NULL,
+    next_attempt_at  TIMESTAMP(6) NOT NULL,
+    last_error       VARCHAR(500),
+    dead_lettered_at TIMESTAMP(6),
+    created_at       TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_status_outbox PRIMARY KEY (id)
+);
+
+-- StatusOutboxRelay polls for due, not dead-lettered entries
+CREATE INDEX idx_status_outbox_due ON status_outbox (dead_lettered_at, next_attempt_at);
@@ -0,0 +1,9 @@
+-- Composite filters of GET /tickets. Each index ends with (created_at, ticket_id), so the rows come
+-- out already in the page order and a keyset page reads only the rows it returns.
+CREATE INDEX idx_tickets_employee_created ON tickets (employee_id, created_at, ticket_id);
+CREATE INDEX idx_tickets_priority_category_created ON tickets (priority, issue_category, created_at, ticket_id);
+CREATE INDEX idx_tickets_category_created ON tickets (issue_category, created_at, ticket_id);
+
+-- Still serves the export's createdAt lower bound, and now also unfiltered pages by creation time
+DROP INDEX idx_tickets_created_at;
+CREATE INDEX idx_tickets_created_at ON tickets (created_at, ticket_id);
@@ -0,0 +1,3 @@
+-- idx_tickets_employee_created covers every lookup by employee. With both in place H2 picked the older
+-- (employee_id, ticket_id) index for the employee filter of GET /tickets and then sorted the matches.
+DROP INDEX idx_tickets_employee_id;
@@ -0,0 +1,92 @@
+package com.helpdesk.ticketservice.archive;
+
+import com.helpdesk.ticketservice.client.StatusServiceClient;
+import com.helpdesk.ticketservice.dto.CurrentStatusResponse;
+import com.helpdesk.ticketservice.model.IssueCategory;
+import com.helpdesk.ticketservice.model.Priority;
+import com.helpdesk.ticketservice.model.Ticket;
+import com.helpdesk.ticketservice.repository.TicketRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+
+@SpringBootTest(properties = {"ticket-archive.enabled=true", "ticket-archive.min-age=0s",
+        "ticket-search.rebuild-on-startup=false"})
+class TicketArchiveJobTest {
+
+    @Autowired
+    private TicketArchiveJob ticketArchiveJob;
+
+    @Autowired
+    private TicketArchive ticketArchive;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @MockBean
+    private StatusServiceClient statusServiceClient;
+
+    @DynamicPropertySource
+    static void archiveDirectory(DynamicPropertyRegistry registry) throws IOException {
+        Path dir = Files.createTempDirectory("ticket-archive-test");
+        registry.add("ticket-archive.dir", dir::toString);
+    }
+
+    @Test
+    void rerunAfterCrashBetweenWriteAndDeleteArchivesEachTicketOnce() throws IOException {
+        List<Ticket> tickets = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            tickets.add(ticketRepository.saveAndFlush(new Ticket(null, 7L, "Ann Lee", IssueCategory.NETWORK,
+                    "VPN drops every hour", Priority.HIGH, null)));
+        }
+        List<Long> ticketIds = tickets.stream().map(Ticket::getTicketId).toList();
+        given(statusServiceClient.getCurrentStatuses(anyList())).willAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            return Mono.just(ids.stream().map(TicketArchiveJobTest::closedDayAgo).toList());
+        });
+
+        // A run that wrote its file and stopped before deleting the rows
+        ticketArchive.write(tickets);
+        int archivedBefore = ticketArchive.ticketCount();
+
+        ticketArchiveJob.archiveClosedTickets();
+
+        assertThat(ticketArchive.ticketCount()).isEqualTo(archivedBefore);
+        assertThat(ticketRepository.findAllById(ticketIds)).isEmpty();
+        assertThat(ticketArchive.findAllById(ticketIds)).extracting(Ticket::getTicketId)
+                .containsExactlyInAnyOrderElementsOf(ticketIds);
+    }
+
+    @Test
+    void ticketWrittenTwiceIsReturnedOnce() throws IOException {
+        Ticket ticket = new Ticket(900_001L, 7L, "Ann Lee", IssueCategory.LAPTOP, "Laptop will not boot",
+                Priority.LOW, LocalDateTime.now().minusDays(40));
+        ticketArchive.write(List.of(ticket));
+        ticketArchive.write(List.of(ticket));
+
+        assertThat(ticketArchive.findAllById(List.of(900_001L, 900_001L))).hasSize(1);
+    }
+
+    private static CurrentStatusResponse closedDayAgo(Long ticketId) {
+        CurrentStatusResponse status = new CurrentStatusResponse();
+        status.setTicketId(ticketId);
+        status.setCurrentStatus("CLOSED");
+        status.setLastUpdatedAt(LocalDateTime.now().minusDays(1));
+        return status;
+    }
+}
@@ -0,0 +1,105 @@
+package com.helpdesk.ticketservice.repository;
+
+import com.helpdesk.ticketservice.model.StatusOutboxEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Two relays sharing the database must claim disjoint batches, so each test runs its claims in
+// transactions of its own instead of the single test transaction
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.helpdesk.ticketservice.repository.CapturingStatementInspector")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StatusOutboxRepositoryTest {
+
+    @Autowired
+    private StatusOutboxRepository outboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void seedOutbox() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        outboxRepository.deleteAllInBatch();
+        CapturingStatementInspector.clear();
+        for (long ticketId = 1; ticketId <= 4; ticketId++) {
+            outboxRepository.save(new StatusOutboxEntry(null, ticketId, "OPEN", "system", 0,
+                    LocalDateTime.now().minusMinutes(1), null, null, null));
+        }
+    }
+
+    @Test
+    void findDueLocksRowsAndSkipsLockedOnes() {
+        transactionTemplate.executeWithoutResult(tx -> outboxRepository.findDue(LocalDateTime.now(), 2));
+
+        assertThat(CapturingStatementInspector.last().toLowerCase()).contains("for update").contains("skip locked");
+    }
+
+    @Test
+    void concurrentClaimsGetDisjointBatches() throws Exception {
+        CountDownLatch claimed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<List<Long>> first = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(tx -> {
+            List<Long> ids = ticketIds(outboxRepository.findDue(LocalDateTime.now(), 2));
+            claimed.countDown();
+            await(release);
+            return ids;
+        }));
+        List<Long> second;
+        try {
+            assertThat(claimed.await(10, TimeUnit.SECONDS)).isTrue();
+            // The row limit applies before locked rows are skipped, so the second claim asks for all four
+            second = transactionTemplate.execute(tx -> ticketIds(outboxRepository.findDue(LocalDateTime.now(), 4)));
+        } finally {
+            release.countDown();
+        }
+
+        assertThat(first.get(10, TimeUnit.SECONDS)).containsExactly(1L, 2L);
+        assertThat(second).containsExactly(3L, 4L);
+    }
+
+    @Test
+    void leasedEntriesAreNotDueUntilTheLeaseEnds() {
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(tx -> {
+            List<StatusOutboxEntry> claimed = outboxRepository.findDue(now, 2);
+            outboxRepository.lease(claimed.stream().map(StatusOutboxEntry::getId).toList(), now.plusSeconds(60));
+        });
+
+        // Committed, so the rows are no longer locked; only the lease keeps them from being claimed again
+        List<Long> whileLeased = transactionTemplate.execute(tx -> ticketIds(outboxRepository.findDue(now, 4)));
+        List<Long> afterLease = transactionTemplate.execute(tx ->
+                ticketIds(outboxRepository.findDue(now.plusSeconds(61), 4)));
+
+        assertThat(whileLeased).containsExactly(3L, 4L);
+        assertThat(afterLease).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    private static List<Long> ticketIds(List<StatusOutboxEntry> entries) {
+        return entries.stream().map(StatusOutboxEntry::getTicketId).toList();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
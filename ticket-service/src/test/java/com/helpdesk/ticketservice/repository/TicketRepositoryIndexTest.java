@@ -0,0 +1,125 @@
+package com.helpdesk.ticketservice.repository;
+
+import com.helpdesk.ticketservice.model.IssueCategory;
+import com.helpdesk.ticketservice.model.Priority;
+import com.helpdesk.ticketservice.model.TicketSort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Runs EXPLAIN on the SQL each query actually sends and checks the index H2 plans to use, so a
+// renamed column or a changed query shows up here instead of as a table scan in production
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.helpdesk.ticketservice.repository.CapturingStatementInspector")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TicketRepositoryIndexTest {
+
+    private static final int SEEDED_TICKETS = 20_000;
+    private static final LocalDateTime FROM = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2026, 2, 1, 0, 0);
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // The planner's choice between indexes depends on row counts and selectivity, so it plans against
+    // an analyzed table of a realistic shape rather than an empty one. ANALYZE commits, so the rows are
+    // seeded once, outside of the test transactions.
+    @BeforeEach
+    void seedTickets() {
+        CapturingStatementInspector.clear();
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tickets", Long.class) > 0) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>();
+        Priority[] priorities = Priority.values();
+        IssueCategory[] categories = IssueCategory.values();
+        for (long id = 1; id <= SEEDED_TICKETS; id++) {
+            rows.add(new Object[]{id, id % 500, "employee-" + id % 500,
+                    categories[(int) (id % categories.length)].name(), "description " + id,
+                    priorities[(int) (id % priorities.length)].name(), FROM.plusMinutes(id * 7)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO tickets (ticket_id, employee_id, employee_name, issue_category, "
+                + "description, priority, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void findByEmployeeIdUsesEmployeeIndex() {
+        ticketRepository.findByEmployeeId(1L);
+
+        assertThat(plan(1L)).contains("IDX_TICKETS_EMPLOYEE_CREATED");
+    }
+
+    @Test
+    void findByPriorityUsesPriorityIndex() {
+        ticketRepository.findByPriority(Priority.HIGH);
+
+        assertThat(plan(Priority.HIGH.name())).contains("IDX_TICKETS_PRIORITY");
+    }
+
+    @Test
+    void employeePageUsesEmployeeIndex() {
+        ticketRepository.findPageAfter(100L, 1L, null, PageRequest.of(0, 20));
+
+        assertThat(plan(1L, 100L, 20)).contains("IDX_TICKETS_EMPLOYEE");
+    }
+
+    @Test
+    void priorityPageUsesPriorityIndex() {
+        ticketRepository.findPageAfter(100L, null, Priority.HIGH, PageRequest.of(0, 20));
+
+        assertThat(plan(Priority.HIGH.name(), 100L, 20)).contains("IDX_TICKETS_PRIORITY");
+    }
+
+    @Test
+    void employeeFilterUsesEmployeeCreatedIndex() {
+        ticketRepository.findFiltered(new TicketFilter(1L, null, null, null, null), TicketSort.NEWEST,
+                null, null, 20);
+
+        assertThat(plan(1L, 20)).contains("IDX_TICKETS_EMPLOYEE_CREATED");
+    }
+
+    @Test
+    void priorityAndCategoryFilterUsesPriorityCategoryCreatedIndex() {
+        ticketRepository.findFiltered(new TicketFilter(null, Priority.HIGH, IssueCategory.NETWORK, null, null),
+                TicketSort.NEWEST, null, null, 20);
+
+        assertThat(plan(Priority.HIGH.name(), IssueCategory.NETWORK.name(), 20))
+                .contains("IDX_TICKETS_PRIORITY_CATEGORY_CREATED");
+    }
+
+    @Test
+    void categoryFilterUsesCategoryCreatedIndex() {
+        ticketRepository.findFiltered(new TicketFilter(null, null, IssueCategory.NETWORK, FROM, TO),
+                TicketSort.OLDEST, null, null, 20);
+
+        assertThat(plan(IssueCategory.NETWORK.name(), FROM, TO, 20)).contains("IDX_TICKETS_CATEGORY_CREATED");
+    }
+
+    @Test
+    void creationTimeFilterUsesCreatedAtIndex() {
+        ticketRepository.findFiltered(new TicketFilter(null, null, null, FROM, TO), TicketSort.OLDEST,
+                null, null, 20);
+
+        assertThat(plan(FROM, TO, 20)).contains("IDX_TICKETS_CREATED_AT");
+    }
+
+    private String plan(Object... parameters) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + CapturingStatementInspector.last(), String.class,
+                parameters).toUpperCase();
+    }
+}
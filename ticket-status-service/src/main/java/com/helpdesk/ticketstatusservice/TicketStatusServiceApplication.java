@@ -2,9 +2,11 @@ package com.helpdesk.ticketstatusservice;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.validation.annotation.Validated;
 
 @SpringBootApplication
+@EnableScheduling
 @Validated
 public class TicketStatusServiceApplication {
 
@@ -0,0 +1,110 @@
+package com.helpdesk.ticketstatusservice.archive;
+
+import com.helpdesk.ticketstatusservice.model.TicketStatus;
+import com.helpdesk.ticketstatusservice.model.TicketStatusHistory;
+import com.helpdesk.ticketstatusservice.repository.TicketStatusHistoryRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Moves the history of tickets closed longer than status-archive.min-age ago out of
+// ticket_status_history into StatusHistoryArchive, one file per batch of tickets. Reads keep finding
+// it through JpaStatusHistoryStore; the daily counters are not touched. Not in the reactive profile,
+// whose repository reads the table only, nor with status-history.storage=log, where history never
+// reaches the table.
+@Component
+@ConditionalOnExpression("${status-archive.enabled:false} and '${status-history.storage:jpa}' == 'jpa'")
+@Profile("!reactive")
+@RequiredArgsConstructor
+@Slf4j
+public class StatusArchiveJob {
+
+    private final TicketStatusHistoryRepository statusHistoryRepository;
+    private final StatusHistoryArchive statusHistoryArchive;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${status-archive.min-age:30d}")
+    private Duration minAge;
+
+    @Value("${status-archive.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${status-archive.max-tickets-per-run:100000}")
+    private int maxTicketsPerRun;
+
+    private Timer runTimer;
+    private final AtomicLong hotRows = new AtomicLong(-1);
+
+    @PostConstruct
+    void registerMetrics() {
+        runTimer = Timer.builder("status.archive.run")
+                .description("Time taken by a status archive run")
+                .register(meterRegistry);
+        // The count taken at the end of each run, not a COUNT(*) on every scrape
+        Gauge.builder("status.archive.hot.rows", hotRows, rows -> rows.get() < 0 ? Double.NaN : rows.get())
+                .description("Rows left in ticket_status_history after the last archive run")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${status-archive.interval-ms:3600000}",
+            initialDelayString = "${status-archive.interval-ms:3600000}")
+    public void archiveClosedTickets() {
+        runTimer.record(this::archive);
+    }
+
+    private void archive() {
+        LocalDateTime closedBefore = LocalDateTime.now().minus(minAge);
+        long hotRowsBefore = statusHistoryRepository.count();
+        long start = System.nanoTime();
+
+        int archivedTickets = 0;
+        int archivedRows = 0;
+        long afterTicketId = 0;
+        while (archivedTickets < maxTicketsPerRun) {
+            List<Long> ticketIds = statusHistoryRepository.findTicketIdsWithLatestStatusBefore(afterTicketId,
+                    TicketStatus.CLOSED, closedBefore,
+                    PageRequest.of(0, Math.min(batchSize, maxTicketsPerRun - archivedTickets)));
+            if (ticketIds.isEmpty()) {
+                break;
+            }
+            afterTicketId = ticketIds.get(ticketIds.size() - 1);
+
+            List<TicketStatusHistory> rows = statusHistoryRepository.findByTicketIdIn(ticketIds);
+            try {
+                statusHistoryArchive.write(rows);
+            } catch (IOException e) {
+                log.error("Status archive run stopped, unable to write the archive: {}", e.getMessage());
+                break;
+            }
+            // By row ID, so an update saved since the rows were read stays in the table
+            List<Long> rowIds = rows.stream().map(TicketStatusHistory::getId).toList();
+            statusHistoryRepository.deleteAllByIdInBatch(rowIds);
+
+            archivedTickets += ticketIds.size();
+            archivedRows += rows.size();
+        }
+
+        long hotRowsAfter = statusHistoryRepository.count();
+        hotRows.set(hotRowsAfter);
+        log.info("Archived the history of {} tickets closed before {} ({} rows) in {} ms; "
+                        + "ticket_status_history went from {} to {} rows, archive holds {} rows in {} KB",
+                archivedTickets, closedBefore, archivedRows, (System.nanoTime() - start) / 1_000_000,
+                hotRowsBefore, hotRowsAfter, statusHistoryArchive.rowCount(),
+                statusHistoryArchive.sizeInBytes() / 1024);
+    }
+}
@@ -0,0 +1,325 @@
+package com.helpdesk.ticketstatusservice.archive;
+
+import com.helpdesk.common.archive.ArchiveFile;
+import com.helpdesk.common.archive.ColumnReader;
+import com.helpdesk.common.archive.ColumnWriter;
+import com.helpdesk.ticketstatusservice.model.TicketStatus;
+import com.helpdesk.ticketstatusservice.model.TicketStatusHistory;
+import com.helpdesk.ticketstatusservice.repository.HistoryVersion;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// Cold storage for the history of closed tickets, moved out of ticket_status_history by
+// StatusArchiveJob. Every archive run writes one immutable file; the ticket IDs of each file stay in
+// memory, so finding out whether a ticket has archived history is a binary search per file, and only
+// the file that has it is read. A read inflates the columns it needs and decodes them up to the
+// ticket's rows, which for files of a few thousand tickets takes about a millisecond. The row count,
+// highest row ID and latest row of every ticket are kept in memory too, decoded once when the file is
+// opened, so status and version lookups read no file at all.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StatusHistoryArchive {
+
+    // Tickets in ascending ID order with their row counts, then one value per row, by ticket and row ID
+    private static final int TICKET_IDS = 0;
+    private static final int ROW_COUNTS = 1;
+    private static final int IDS = 2;
+    private static final int STATUSES = 3;
+    private static final int UPDATED_BY = 4;
+    private static final int UPDATED_AT = 5;
+    private static final int COLUMN_COUNT = 6;
+
+    private static final String FILE_PREFIX = "history-";
+    private static final String FILE_SUFFIX = ".arc";
+    private static final Comparator<TicketStatusHistory> TICKET_THEN_ID =
+            Comparator.comparing(TicketStatusHistory::getTicketId).thenComparing(TicketStatusHistory::getId);
+    private static final Comparator<TicketStatusHistory> LATEST_FIRST =
+            Comparator.comparing(TicketStatusHistory::getUpdatedAt).thenComparing(TicketStatusHistory::getId).reversed();
+    private static final TicketStatus[] STATUS_VALUES = TicketStatus.values();
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${status-archive.dir:./data/status-archive}")
+    private String dir;
+
+    private Path directory;
+    private final List<IndexedFile> files = new CopyOnWriteArrayList<>();
+
+    @PostConstruct
+    void open() throws IOException {
+        directory = Path.of(dir);
+        if (Files.isDirectory(directory)) {
+            try (Stream<Path> paths = Files.list(directory)) {
+                for (Path path : paths.sorted().toList()) {
+                    String name = path.getFileName().toString();
+                    if (name.endsWith(".tmp")) {
+                        // Left by a run that stopped before renaming it; its rows were not deleted
+                        Files.delete(path);
+                    } else if (name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX)) {
+                        files.add(index(ArchiveFile.open(path)));
+                    }
+                }
+            }
+            log.info("Status archive opened: {} tickets in {} files", ticketCount(), files.size());
+        }
+
+        Gauge.builder("status.archive.tickets", this, StatusHistoryArchive::ticketCount)
+                .description("Tickets whose history has been moved to the status archive")
+                .register(meterRegistry);
+        Gauge.builder("status.archive.rows", this, StatusHistoryArchive::rowCount)
+                .description("Status history rows in the status archive")
+                .register(meterRegistry);
+        Gauge.builder("status.archive.size", this, StatusHistoryArchive::sizeInBytes)
+                .description("Compressed size of the status archive in bytes")
+                .register(meterRegistry);
+    }
+
+    // Writes the rows, all of them from tickets not archived before, as one new file
+    public synchronized void write(List<TicketStatusHistory> history) throws IOException {
+        List<TicketStatusHistory> rows = new ArrayList<>(history);
+        rows.sort(TICKET_THEN_ID);
+
+        List<ColumnWriter> columns = new ArrayList<>();
+        for (int i = 0; i < COLUMN_COUNT; i++) {
+            columns.add(new ColumnWriter());
+        }
+        for (int i = 0; i < rows.size(); ) {
+            long ticketId = rows.get(i).getTicketId();
+            int ticketRows = 0;
+            for (; i < rows.size() && rows.get(i).getTicketId() == ticketId; i++, ticketRows++) {
+                TicketStatusHistory row = rows.get(i);
+                columns.get(IDS).writeDelta(row.getId());
+                columns.get(STATUSES).writeDictionary(row.getStatus().name());
+                columns.get(UPDATED_BY).writeDictionary(row.getUpdatedBy());
+                columns.get(UPDATED_AT).writeDelta(toMicros(row.getUpdatedAt()));
+            }
+            columns.get(TICKET_IDS).writeDelta(ticketId);
+            columns.get(ROW_COUNTS).writeLong(ticketRows);
+        }
+
+        Files.createDirectories(directory);
+        int number = files.isEmpty() ? 1 : files.get(files.size() - 1).number() + 1;
+        Path path = directory.resolve(String.format("%s%08d%s", FILE_PREFIX, number, FILE_SUFFIX));
+        files.add(index(ArchiveFile.write(path, rows.size(), columns)));
+    }
+
+    public boolean contains(Long ticketId) {
+        for (IndexedFile file : files) {
+            if (file.find(ticketId) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // The ticket's archived rows in ID order
+    public List<TicketStatusHistory> findByTicketId(Long ticketId) {
+        List<TicketStatusHistory> history = new ArrayList<>();
+        for (IndexedFile file : files) {
+            int ticket = file.find(ticketId);
+            if (ticket >= 0) {
+                history.addAll(file.read(file.firstRows()[ticket], file.firstRows()[ticket + 1]));
+            }
+        }
+        return history;
+    }
+
+    // The latest archived row of each of the given tickets that has archived history
+    public List<TicketStatusHistory> findLatestByTicketIdIn(Collection<Long> ticketIds) {
+        List<TicketStatusHistory> latest = new ArrayList<>();
+        for (Long ticketId : ticketIds) {
+            findLatestByTicketId(ticketId).ifPresent(latest::add);
+        }
+        return latest;
+    }
+
+    public Optional<TicketStatusHistory> findLatestByTicketId(Long ticketId) {
+        TicketStatusHistory latest = null;
+        for (IndexedFile file : files) {
+            int ticket = file.find(ticketId);
+            if (ticket >= 0) {
+                TicketStatusHistory row = file.latest(ticket);
+                if (latest == null || LATEST_FIRST.compare(row, latest) < 0) {
+                    latest = row;
+                }
+            }
+        }
+        return Optional.ofNullable(latest);
+    }
+
+    // Row count and highest row ID of the ticket's archived history
+    public HistoryVersion findHistoryVersion(Long ticketId) {
+        long rowCount = 0;
+        Long latestId = null;
+        for (IndexedFile file : files) {
+            int ticket = file.find(ticketId);
+            if (ticket >= 0) {
+                rowCount += file.firstRows()[ticket + 1] - file.firstRows()[ticket];
+                latestId = latestId == null ? file.maxIds()[ticket] : Math.max(latestId, file.maxIds()[ticket]);
+            }
+        }
+        return new HistoryVersion(rowCount, latestId);
+    }
+
+    // Counts of archived updates in [start, end); only the status and time columns are read
+    public Map<TicketStatus, Long> countByStatusBetween(LocalDateTime start, LocalDateTime end) {
+        long startMicros = toMicros(start);
+        long endMicros = toMicros(end);
+        Map<TicketStatus, Long> counts = new EnumMap<>(TicketStatus.class);
+        for (IndexedFile file : files) {
+            try {
+                ColumnReader statuses = file.file().column(STATUSES);
+                ColumnReader updatedAt = file.file().column(UPDATED_AT);
+                for (int row = 0; row < file.file().rows(); row++) {
+                    TicketStatus status = TicketStatus.valueOf(statuses.readDictionary());
+                    long micros = updatedAt.readDelta();
+                    if (micros >= startMicros && micros < endMicros) {
+                        counts.merge(status, 1L, Long::sum);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return counts;
+    }
+
+    // Every archived row updated at or after updatedFrom, one file at a time
+    public Stream<TicketStatusHistory> stream(LocalDateTime updatedFrom) {
+        return files.stream()
+                .flatMap(file -> file.read(0, file.file().rows()).stream())
+                .filter(row -> updatedFrom == null || !row.getUpdatedAt().isBefore(updatedFrom));
+    }
+
+    public int ticketCount() {
+        return files.stream().mapToInt(file -> file.ticketIds().length).sum();
+    }
+
+    public long rowCount() {
+        return files.stream().mapToLong(file -> file.file().rows()).sum();
+    }
+
+    public long sizeInBytes() {
+        return files.stream().mapToLong(file -> file.file().sizeInBytes()).sum();
+    }
+
+    private static IndexedFile index(ArchiveFile file) throws IOException {
+        ColumnReader ticketColumn = file.column(TICKET_IDS);
+        ColumnReader rowCountColumn = file.column(ROW_COUNTS);
+        List<Long> ticketIds = new ArrayList<>();
+        List<Integer> firstRows = new ArrayList<>(List.of(0));
+        for (int row = 0; row < file.rows(); ) {
+            ticketIds.add(ticketColumn.readDelta());
+            row += (int) rowCountColumn.readLong();
+            firstRows.add(row);
+        }
+        String name = file.path().getFileName().toString();
+        int number = Integer.parseInt(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length()));
+        IndexedFile indexed = new IndexedFile(file, number, ticketIds.stream().mapToLong(Long::longValue).toArray(),
+                firstRows.stream().mapToInt(Integer::intValue).toArray(), new long[ticketIds.size()],
+                new long[ticketIds.size()], new byte[ticketIds.size()], new String[ticketIds.size()],
+                new long[ticketIds.size()]);
+
+        // One pass over the row columns for the highest ID and the latest row of every ticket
+        ColumnReader ids = file.column(IDS);
+        ColumnReader statuses = file.column(STATUSES);
+        ColumnReader updatedBy = file.column(UPDATED_BY);
+        ColumnReader updatedAt = file.column(UPDATED_AT);
+        for (int ticket = 0; ticket < ticketIds.size(); ticket++) {
+            for (int row = firstRows.get(ticket); row < firstRows.get(ticket + 1); row++) {
+                long id = ids.readDelta();
+                String status = statuses.readDictionary();
+                String by = updatedBy.readDictionary();
+                long micros = updatedAt.readDelta();
+                indexed.maxIds()[ticket] = Math.max(indexed.maxIds()[ticket], id);
+                boolean first = row == firstRows.get(ticket);
+                if (first || micros > indexed.latestUpdatedAt()[ticket]
+                        || (micros == indexed.latestUpdatedAt()[ticket] && id > indexed.latestIds()[ticket])) {
+                    indexed.latestIds()[ticket] = id;
+                    indexed.latestStatuses()[ticket] = (byte) TicketStatus.valueOf(status).ordinal();
+                    indexed.latestUpdatedBy()[ticket] = by;
+                    indexed.latestUpdatedAt()[ticket] = micros;
+                }
+            }
+        }
+        return indexed;
+    }
+
+    private static long toMicros(LocalDateTime time) {
+        return TimeUnit.SECONDS.toMicros(time.toEpochSecond(ZoneOffset.UTC)) + time.getNano() / 1000;
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+                (int) Math.floorMod(micros, 1_000_000) * 1000, ZoneOffset.UTC);
+    }
+
+    // A file with its tickets in ascending ID order; the rows of ticket i are [firstRows[i], firstRows[i + 1]),
+    // the highest of their IDs is maxIds[i] and the latest of them is held in the latest* arrays. Updated-by
+    // values are the file's dictionary strings, so each distinct value is held once.
+    private record IndexedFile(ArchiveFile file, int number, long[] ticketIds, int[] firstRows, long[] maxIds,
+                               long[] latestIds, byte[] latestStatuses, String[] latestUpdatedBy,
+                               long[] latestUpdatedAt) {
+
+        int find(long ticketId) {
+            return Arrays.binarySearch(ticketIds, ticketId);
+        }
+
+        TicketStatusHistory latest(int ticket) {
+            return new TicketStatusHistory(latestIds[ticket], ticketIds[ticket], STATUS_VALUES[latestStatuses[ticket]],
+                    latestUpdatedBy[ticket], fromMicros(latestUpdatedAt[ticket]));
+        }
+
+        List<TicketStatusHistory> read(int from, int to) {
+            try {
+                ColumnReader ids = file.column(IDS);
+                ColumnReader statuses = file.column(STATUSES);
+                ColumnReader updatedBy = file.column(UPDATED_BY);
+                ColumnReader updatedAt = file.column(UPDATED_AT);
+                List<TicketStatusHistory> rows = new ArrayList<>(to - from);
+                int ticket = 0;
+                // Deltas and dictionaries are decoded from the start of each column
+                for (int row = 0; row < to; row++) {
+                    while (firstRows[ticket + 1] <= row) {
+                        ticket++;
+                    }
+                    long id = ids.readDelta();
+                    String status = statuses.readDictionary();
+                    String by = updatedBy.readDictionary();
+                    long micros = updatedAt.readDelta();
+                    if (row >= from) {
+                        rows.add(new TicketStatusHistory(id, ticketIds[ticket], TicketStatus.valueOf(status), by,
+                                fromMicros(micros)));
+                    }
+                }
+                return rows;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.helpdesk.ticketstatusservice.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.helpdesk.common.client.ResilientExchangeFilter;
+import com.helpdesk.ticketstatusservice.dto.TicketPageResponse;
+import com.helpdesk.ticketstatusservice.dto.TicketResponse;
+import com.helpdesk.ticketstatusservice.exception.TicketNotFoundException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Non-blocking counterpart of TicketServiceClient for the reactive profile. Shares the ticket cache,
+// so both clients see the same hits and negative entries.
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveTicketServiceClient {
+
+    private static final int LOOKUP_BATCH_SIZE = 1000;
+
+    private final WebClient webClient;
+    private final Cache<Long, Optional<TicketResponse>> ticketCache;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<Long, Mono<TicketResponse>> inFlightLookups = new ConcurrentHashMap<>();
+    private final AtomicLong coalescedLookups = new AtomicLong();
+
+    @PostConstruct
+    void registerMetrics() {
+        FunctionCounter.builder("ticket.client.lookups.coalesced", coalescedLookups, AtomicLong::get)
+                .description("Ticket lookups that joined an identical call already in flight")
+                .tag("client", "reactive")
+                .register(meterRegistry);
+    }
+
+    public Mono<TicketResponse> getTicketById(Long ticketId) {
+        Optional<TicketResponse> cached = ticketCache.getIfPresent(ticketId);
+        if (cached != null) {
+            log.debug("Ticket cache hit for ticket ID: {}", ticketId);
+            return Mono.justOrEmpty(cached).switchIfEmpty(Mono.error(() -> notFound(ticketId)));
+        }
+
+        // Single flight: concurrent misses for the same ticket subscribe to one shared request and
+        // receive its result or error; the entry is dropped once the request completes
+        AtomicBoolean started = new AtomicBoolean();
+        Mono<TicketResponse> lookup = inFlightLookups.computeIfAbsent(ticketId, id -> {
+            started.set(true);
+            return fetchTicketById(id)
+                    .doFinally(signal -> inFlightLookups.remove(id))
+                    .cache();
+        });
+        if (!started.get()) {
+            coalescedLookups.incrementAndGet();
+            log.debug("Joining in-flight lookup for ticket ID: {}", ticketId);
+        }
+        return lookup;
+    }
+
+    private Mono<TicketResponse> fetchTicketById(Long ticketId) {
+        log.info("Calling ticket service to verify ticket ID: {}", ticketId);
+        return webClient.get()
+                .uri("/tickets/{ticketId}", ticketId)
+                .retrieve()
+                .bodyToMono(TicketResponse.class)
+                .doOnNext(ticket -> ticketCache.put(ticketId, Optional.of(ticket)))
+                .onErrorResume(WebClientResponseException.NotFound.class, ex -> {
+                    log.warn("Ticket {} not found in ticket service", ticketId);
+                    // Remember the miss briefly so repeated lookups of unknown IDs stay local
+                    ticketCache.put(ticketId, Optional.empty());
+                    return Mono.error(notFound(ticketId));
+                })
+                .onErrorResume(WebClientResponseException.BadRequest.class,
+                        ex -> Mono.error(new IllegalArgumentException("Invalid ticket ID: " + ticketId)))
+                .onErrorMap(ex -> !(ex instanceof TicketNotFoundException || ex instanceof IllegalArgumentException),
+                        ex -> {
+                            log.error("Error calling ticket service: {}", ex.getMessage());
+                            return new RuntimeException("Ticket service is unavailable: " + ex.getMessage());
+                        });
+    }
+
+    // Resolves many tickets at once: cached entries locally, the rest with lookup calls.
+    // Tickets missing from the result do not exist.
+    public Mono<Map<Long, TicketResponse>> getTicketsByIds(Collection<Long> ticketIds) {
+        Map<Long, TicketResponse> cachedHits = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long ticketId : ticketIds) {
+            Optional<TicketResponse> cached = ticketCache.getIfPresent(ticketId);
+            if (cached == null) {
+                misses.add(ticketId);
+            } else {
+                cached.ifPresent(ticket -> cachedHits.put(ticketId, ticket));
+            }
+        }
+
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < misses.size(); from += LOOKUP_BATCH_SIZE) {
+            chunks.add(misses.subList(from, Math.min(from + LOOKUP_BATCH_SIZE, misses.size())));
+        }
+
+        return Flux.fromIterable(chunks)
+                .concatMap(chunk -> lookupTickets(chunk)
+                        .doOnNext(tickets -> cacheLookup(chunk, tickets))
+                        .flatMapIterable(tickets -> tickets))
+                .collectMap(TicketResponse::getTicketId, ticket -> ticket, () -> new HashMap<>(cachedHits));
+    }
+
+    public Mono<TicketPageResponse> getTicketPage(String cursor, int size) {
+        log.info("Calling ticket service for a page of tickets (size {})", size);
+
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/tickets/all")
+                        .queryParamIfPresent("cursor", Optional.ofNullable(cursor))
+                        .queryParam("size", size)
+                        .build())
+                .retrieve()
+                .bodyToMono(TicketPageResponse.class)
+                .onErrorResume(WebClientResponseException.BadRequest.class,
+                        ex -> Mono.error(new IllegalArgumentException("Invalid page request: " + ex.getResponseBodyAsString())))
+                .onErrorMap(ex -> !(ex instanceof IllegalArgumentException),
+                        ex -> {
+                            log.error("Error calling ticket service for tickets page: {}", ex.getMessage());
+                            return new RuntimeException("Ticket service is unavailable");
+                        });
+    }
+
+    private Mono<List<TicketResponse>> lookupTickets(List<Long> ticketIds) {
+        log.info("Calling ticket service to look up {} tickets", ticketIds.size());
+
+        return webClient.post()
+                .uri("/tickets/lookup")
+                .attribute(ResilientExchangeFilter.IDEMPOTENT, true) // read-only, safe to retry
+                .bodyValue(Map.of("ticketIds", ticketIds))
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<List<TicketResponse>>() {
+                })
+                .defaultIfEmpty(List.of())
+                .onErrorMap(ex -> {
+                    log.error("Error calling ticket service for ticket lookup: {}", ex.getMessage());
+                    return new RuntimeException("Ticket service is unavailable");
+                });
+    }
+
+    private void cacheLookup(List<Long> requested, List<TicketResponse> found) {
+        Set<Long> foundIds = new HashSet<>();
+        for (TicketResponse ticket : found) {
+            ticketCache.put(ticket.getTicketId(), Optional.of(ticket));
+            foundIds.add(ticket.getTicketId());
+        }
+        requested.stream()
+                .filter(ticketId -> !foundIds.contains(ticketId))
+                .forEach(ticketId -> ticketCache.put(ticketId, Optional.empty()));
+    }
+
+    private static TicketNotFoundException notFound(Long ticketId) {
+        return new TicketNotFoundException("Ticket with ID " + ticketId + " not found");
+    }
+}
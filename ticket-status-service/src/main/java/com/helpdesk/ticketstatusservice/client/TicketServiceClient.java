@@ -1,7 +1,16 @@
 package com.helpdesk.ticketstatusservice.client;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.helpdesk.common.client.PeerTransportProperties;
+import com.helpdesk.common.client.ResilientExchangeFilter;
+import com.helpdesk.ticketstatusservice.dto.TicketCacheStatsResponse;
+import com.helpdesk.ticketstatusservice.dto.TicketPageResponse;
 import com.helpdesk.ticketstatusservice.dto.TicketResponse;
 import com.helpdesk.ticketstatusservice.exception.TicketNotFoundException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.ParameterizedTypeReference;
@@ -10,16 +19,139 @@ import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class TicketServiceClient {
 
+    private static final int ALL_TICKETS_PAGE_SIZE = 500;
+    private static final int LOOKUP_BATCH_SIZE = 1000;
+
     private final WebClient webClient;
+    private final Cache<Long, Optional<TicketResponse>> ticketCache;
+    private final MeterRegistry meterRegistry;
+    private final PeerTransportProperties ticketServiceTransport;
+
+    private final ConcurrentMap<Long, CompletableFuture<TicketResponse>> inFlightLookups = new ConcurrentHashMap<>();
+    private final AtomicLong coalescedLookups = new AtomicLong();
 
     public TicketResponse getTicketById(Long ticketId) {
+        Optional<TicketResponse> cached = ticketCache.getIfPresent(ticketId);
+        if (cached != null) {
+            log.debug("Ticket cache hit for ticket ID: {}", ticketId);
+            return cached.orElseThrow(
+                    () -> new TicketNotFoundException("Ticket with ID " + ticketId + " not found"));
+        }
+
+        // Single flight: concurrent misses for the same ticket wait for the first caller's request
+        // and share its result or error instead of each calling the ticket service
+        CompletableFuture<TicketResponse> lookup = new CompletableFuture<>();
+        CompletableFuture<TicketResponse> inFlight = inFlightLookups.putIfAbsent(ticketId, lookup);
+        if (inFlight != null) {
+            coalescedLookups.incrementAndGet();
+            log.debug("Joining in-flight lookup for ticket ID: {}", ticketId);
+            return awaitLookup(ticketId, inFlight);
+        }
+
+        try {
+            TicketResponse ticket = fetchTicketById(ticketId);
+            ticketCache.put(ticketId, Optional.of(ticket));
+            lookup.complete(ticket);
+            return ticket;
+        } catch (TicketNotFoundException e) {
+            // Remember the miss briefly so repeated lookups of unknown IDs stay local
+            ticketCache.put(ticketId, Optional.empty());
+            lookup.completeExceptionally(e);
+            throw e;
+        } catch (Throwable e) {
+            // Any failure, Errors included, must reach the waiters or they would wait forever
+            lookup.completeExceptionally(e);
+            throw e;
+        } finally {
+            // Removed after the cache is filled, so later callers hit the cache instead
+            inFlightLookups.remove(ticketId, lookup);
+        }
+    }
+
+    // Resolves many tickets at once: cached entries locally, the rest with one lookup call.
+    // Tickets missing from the result do not exist.
+    public Map<Long, TicketResponse> getTicketsByIds(Collection<Long> ticketIds) {
+        Map<Long, TicketResponse> found = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long ticketId : ticketIds) {
+            Optional<TicketResponse> cached = ticketCache.getIfPresent(ticketId);
+            if (cached == null) {
+                misses.add(ticketId);
+            } else {
+                cached.ifPresent(ticket -> found.put(ticketId, ticket));
+            }
+        }
+
+        for (int from = 0; from < misses.size(); from += LOOKUP_BATCH_SIZE) {
+            List<Long> chunk = misses.subList(from, Math.min(from + LOOKUP_BATCH_SIZE, misses.size()));
+            for (TicketResponse ticket : lookupTickets(chunk)) {
+                found.put(ticket.getTicketId(), ticket);
+                ticketCache.put(ticket.getTicketId(), Optional.of(ticket));
+            }
+            chunk.stream()
+                    .filter(ticketId -> !found.containsKey(ticketId))
+                    .forEach(ticketId -> ticketCache.put(ticketId, Optional.empty()));
+        }
+        return found;
+    }
+
+    public TicketCacheStatsResponse getCacheStats() {
+        CacheStats stats = ticketCache.stats();
+        return new TicketCacheStatsResponse(stats.hitCount(), stats.missCount(), stats.hitRate(),
+                stats.evictionCount(), ticketCache.estimatedSize(), coalescedLookups.get());
+    }
+
+    @PostConstruct
+    void registerMetrics() {
+        FunctionCounter.builder("ticket.client.lookups.coalesced", coalescedLookups, AtomicLong::get)
+                .description("Ticket lookups that joined an identical call already in flight")
+                .tag("client", "blocking")
+                .register(meterRegistry);
+    }
+
+    // Waits no longer than the leader's own call may take, so a lost completion cannot hold a request thread
+    private TicketResponse awaitLookup(Long ticketId, CompletableFuture<TicketResponse> lookup) {
+        try {
+            return lookup.get(ticketServiceTransport.getCallDeadline().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new RuntimeException("Ticket service is unavailable: " + e.getCause().getMessage(), e.getCause());
+        } catch (TimeoutException e) {
+            log.error("Timed out waiting for the in-flight lookup of ticket {}", ticketId);
+            throw new RuntimeException("Ticket service is unavailable: lookup of ticket " + ticketId + " timed out");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted waiting for the lookup of ticket " + ticketId, e);
+        }
+    }
+
+    private TicketResponse fetchTicketById(Long ticketId) {
         try {
             log.info("Calling ticket service to verify ticket ID: {}", ticketId);
 
@@ -78,25 +210,70 @@ public class TicketServiceClient {
         }
     }
 
-    public List<TicketResponse> getAllTickets() {
+    private List<TicketResponse> lookupTickets(List<Long> ticketIds) {
         try {
-            log.info("Calling ticket service to get all tickets");
+            log.info("Calling ticket service to look up {} tickets", ticketIds.size());
 
-            return webClient.get()
-                    .uri("/tickets/all")
+            List<TicketResponse> tickets = webClient.post()
+                    .uri("/tickets/lookup")
+                    .attribute(ResilientExchangeFilter.IDEMPOTENT, true) // read-only, safe to retry
+                    .bodyValue(Map.of("ticketIds", ticketIds))
                     .retrieve()
                     .bodyToMono(new ParameterizedTypeReference<List<TicketResponse>>() {
                     })
                     .onErrorResume(Exception.class,
                             ex -> {
-                                log.error("Error calling ticket service for all tickets: {}", ex.getMessage());
+                                log.error("Error calling ticket service for ticket lookup: {}", ex.getMessage());
+                                return Mono.error(new RuntimeException("Ticket service is unavailable"));
+                            })
+                    .block(); // Convert to synchronous call
+
+            return tickets == null ? List.of() : tickets;
+
+        } catch (Exception e) {
+            log.error("Failed to look up tickets: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    public TicketPageResponse getTicketPage(String cursor, int size) {
+        try {
+            log.info("Calling ticket service for a page of tickets (size {})", size);
+
+            return webClient.get()
+                    .uri(uriBuilder -> uriBuilder.path("/tickets/all")
+                            .queryParamIfPresent("cursor", Optional.ofNullable(cursor))
+                            .queryParam("size", size)
+                            .build())
+                    .retrieve()
+                    .bodyToMono(TicketPageResponse.class)
+                    .onErrorResume(WebClientResponseException.BadRequest.class,
+                            ex -> Mono.error(new IllegalArgumentException("Invalid page request: " + ex.getResponseBodyAsString())))
+                    .onErrorResume(Exception.class,
+                            ex -> {
+                                if (ex instanceof IllegalArgumentException) {
+                                    return Mono.error(ex);
+                                }
+                                log.error("Error calling ticket service for tickets page: {}", ex.getMessage());
                                 return Mono.error(new RuntimeException("Ticket service is unavailable"));
                             })
                     .block(); // Convert to synchronous call
 
         } catch (Exception e) {
-            log.error("Failed to get all tickets: {}", e.getMessage());
+            log.error("Failed to get tickets page: {}", e.getMessage());
             throw e;
         }
     }
+
+    // Walks the ticket pages lazily; the next page is only requested once the previous one is consumed
+    public Stream<TicketResponse> getAllTickets() {
+        log.info("Calling ticket service to walk all tickets");
+
+        return Stream.iterate(getTicketPage(null, ALL_TICKETS_PAGE_SIZE),
+                        Objects::nonNull,
+                        page -> page.getNextCursor() == null
+                                ? null
+                                : getTicketPage(page.getNextCursor(), ALL_TICKETS_PAGE_SIZE))
+                .flatMap(page -> page.getItems().stream());
+    }
 }
\ No newline at end of file
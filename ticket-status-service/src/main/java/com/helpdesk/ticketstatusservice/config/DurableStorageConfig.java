@@ -0,0 +1,33 @@
+package com.helpdesk.ticketstatusservice.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+// Checkpoint policy of the durable profile. Commits reach the database file within WRITE_DELAY, but
+// H2 leaves them in the OS page cache; a periodic CHECKPOINT SYNC forces them onto the disk, so an
+// OS crash or power loss costs at most one checkpoint interval of committed work.
+@Configuration
+@Profile("durable")
+@RequiredArgsConstructor
+@Slf4j
+public class DurableStorageConfig {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Scheduled(fixedDelayString = "${helpdesk.storage.checkpoint-interval-ms:60000}",
+            initialDelayString = "${helpdesk.storage.checkpoint-interval-ms:60000}")
+    public void checkpoint() {
+        Timer.builder("helpdesk.storage.checkpoint")
+                .description("Time spent forcing committed changes onto the disk")
+                .register(meterRegistry)
+                .record(() -> jdbcTemplate.execute("CHECKPOINT SYNC"));
+        log.debug("Database checkpoint written");
+    }
+}
@@ -0,0 +1,52 @@
+package com.helpdesk.ticketstatusservice.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.helpdesk.ticketstatusservice.dto.TicketResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Configuration
+public class TicketCacheConfig {
+
+    // Tickets never change after creation, so found tickets can be cached for long.
+    // An empty Optional marks a ticket the ticket service reported as not found.
+    @Bean
+    public Cache<Long, Optional<TicketResponse>> ticketCache(
+            MeterRegistry meterRegistry,
+            @Value("${ticket-cache.maximum-size:10000}") long maximumSize,
+            @Value("${ticket-cache.ttl:10m}") Duration ttl,
+            @Value("${ticket-cache.negative-ttl:5s}") Duration negativeTtl) {
+        Cache<Long, Optional<TicketResponse>> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<Long, Optional<TicketResponse>>() {
+                    @Override
+                    public long expireAfterCreate(Long ticketId, Optional<TicketResponse> ticket, long currentTime) {
+                        return ticket.isPresent() ? ttl.toNanos() : negativeTtl.toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Long ticketId, Optional<TicketResponse> ticket, long currentTime,
+                            long currentDuration) {
+                        return expireAfterCreate(ticketId, ticket, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(Long ticketId, Optional<TicketResponse> ticket, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        // Hit, miss and eviction counts as cache.* meters tagged cache=tickets
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "tickets");
+    }
+}
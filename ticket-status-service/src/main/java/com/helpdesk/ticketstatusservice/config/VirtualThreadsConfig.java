@@ -0,0 +1,22 @@
+package com.helpdesk.ticketstatusservice.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+// The virtual-threads profile needs Java 21. The build targets Java 17, and on a Java 17 runtime
+// spring.threads.virtual.enabled is silently ignored, so the profile would run on platform threads
+// while claiming otherwise. Refuse to start instead.
+@Configuration
+@Profile("virtual-threads")
+public class VirtualThreadsConfig {
+
+    private static final int REQUIRED_JAVA_VERSION = 21;
+
+    public VirtualThreadsConfig() {
+        int javaVersion = Runtime.version().feature();
+        if (javaVersion < REQUIRED_JAVA_VERSION) {
+            throw new IllegalStateException("The virtual-threads profile requires Java " + REQUIRED_JAVA_VERSION
+                    + " or later, but this is Java " + javaVersion);
+        }
+    }
+}
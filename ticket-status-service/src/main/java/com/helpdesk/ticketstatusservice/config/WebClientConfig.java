@@ -1,16 +1,36 @@
 package com.helpdesk.ticketstatusservice.config;
 
+import com.helpdesk.common.client.PeerTransportProperties;
+import com.helpdesk.common.client.PeerWebClients;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.time.Duration;
+
 @Configuration
 public class WebClientConfig {
-    
+
+    private static final String PEER = "ticket-service";
+
+    // Ticket lookups sit on the request path of most status endpoints, so they give up sooner
+    @Bean
+    @ConfigurationProperties("ticket-service.transport")
+    public PeerTransportProperties ticketServiceTransport() {
+        PeerTransportProperties transport = new PeerTransportProperties();
+        transport.setResponseTimeout(Duration.ofSeconds(2));
+        transport.setCallDeadline(Duration.ofSeconds(5));
+        transport.getCircuitBreaker().setSlowCallDuration(Duration.ofSeconds(1));
+        return transport;
+    }
+
     @Bean
-    public WebClient webClient() {
-        return WebClient.builder()
-                .baseUrl("http://localhost:8080") // Ticket service URL
-                .build();
+    public WebClient webClient(WebClient.Builder builder, MeterRegistry meterRegistry,
+            PeerTransportProperties ticketServiceTransport,
+            @Value("${ticket-service.base-url:http://localhost:8080}") String ticketServiceUrl) {
+        return PeerWebClients.create(builder, PEER, ticketServiceUrl, ticketServiceTransport, meterRegistry);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,95 @@
+package com.helpdesk.ticketstatusservice.controller;
+
+import com.helpdesk.ticketstatusservice.dto.CurrentStatusBulkRequest;
+import com.helpdesk.ticketstatusservice.dto.CurrentStatusPageResponse;
+import com.helpdesk.ticketstatusservice.dto.CurrentStatusResponse;
+import com.helpdesk.ticketstatusservice.dto.StatusHistoryResponse;
+import com.helpdesk.ticketstatusservice.dto.StatusUpdateBatchRequest;
+import com.helpdesk.ticketstatusservice.dto.StatusUpdateBatchResponse;
+import com.helpdesk.ticketstatusservice.dto.StatusUpdateRequest;
+import com.helpdesk.ticketstatusservice.model.TicketStatus;
+import com.helpdesk.ticketstatusservice.service.ReactiveTicketStatusService;
+import com.helpdesk.ticketstatusservice.stream.StatusStreamBroker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
+import java.util.Set;
+
+// WebFlux endpoints of the reactive profile; same paths and payloads as TicketStatusController.
+// Summaries, exports and cache stats stay servlet-only.
+@RestController
+@RequestMapping("/status")
+@Profile("reactive")
+@RequiredArgsConstructor
+@Validated
+public class ReactiveTicketStatusController {
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache();
+
+    private final ReactiveTicketStatusService ticketStatusService;
+    private final StatusStreamBroker statusStreamBroker;
+
+    @PostMapping("/update")
+    public Mono<StatusHistoryResponse> updateTicketStatus(@Valid @RequestBody StatusUpdateRequest request) {
+        return ticketStatusService.updateTicketStatus(request);
+    }
+
+    @PostMapping("/update/batch")
+    public Mono<StatusUpdateBatchResponse> updateTicketStatuses(@Valid @RequestBody StatusUpdateBatchRequest request) {
+        return ticketStatusService.updateTicketStatuses(request.getUpdates());
+    }
+
+    @GetMapping("/{ticketId}")
+    public Mono<ResponseEntity<CurrentStatusResponse>> getCurrentStatus(
+            @PathVariable @Positive(message = "Ticket ID must be a positive number") Long ticketId,
+            ServerWebExchange exchange) {
+        return ticketStatusService.getHistoryEtag(ticketId).flatMap(etag -> exchange.checkNotModified(etag)
+                ? Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE)
+                        .<CurrentStatusResponse>build())
+                : ticketStatusService.getCurrentStatus(ticketId)
+                        .map(body -> ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(body)));
+    }
+
+    @PostMapping("/current")
+    public Flux<CurrentStatusResponse> getCurrentStatuses(@Valid @RequestBody CurrentStatusBulkRequest request) {
+        return ticketStatusService.getCurrentStatuses(request.getTicketIds());
+    }
+
+    @GetMapping("/{ticketId}/history")
+    public Mono<ResponseEntity<Flux<StatusHistoryResponse>>> getStatusHistory(
+            @PathVariable @Positive(message = "Ticket ID must be a positive number") Long ticketId,
+            ServerWebExchange exchange) {
+        return ticketStatusService.getHistoryEtag(ticketId).map(etag -> exchange.checkNotModified(etag)
+                ? ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE)
+                        .<Flux<StatusHistoryResponse>>build()
+                : ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE)
+                        .body(ticketStatusService.getStatusHistory(ticketId)));
+    }
+
+    @GetMapping({"/all", ""})
+    public Mono<CurrentStatusPageResponse> getAllTicketsCurrentStatus(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) TicketStatus status) {
+        return ticketStatusService.getAllTicketsCurrentStatus(cursor, size, status);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamStatusChanges(
+            @RequestParam(required = false) Set<Long> ticketId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return statusStreamBroker.openFlux(ticketId, lastEventId);
+    }
+}
@@ -1,43 +1,91 @@
 package com.helpdesk.ticketstatusservice.controller;
 
+import com.helpdesk.ticketstatusservice.client.TicketServiceClient;
+import com.helpdesk.ticketstatusservice.dto.CurrentStatusBulkRequest;
+import com.helpdesk.ticketstatusservice.dto.CurrentStatusPageResponse;
 import com.helpdesk.ticketstatusservice.dto.CurrentStatusResponse;
 import com.helpdesk.ticketstatusservice.dto.StatusHistoryResponse;
 import com.helpdesk.ticketstatusservice.dto.StatusSummaryResponse;
+import com.helpdesk.ticketstatusservice.dto.StatusUpdateBatchRequest;
+import com.helpdesk.ticketstatusservice.dto.StatusUpdateBatchResponse;
 import com.helpdesk.ticketstatusservice.dto.StatusUpdateRequest;
+import com.helpdesk.ticketstatusservice.dto.TicketCacheStatsResponse;
+import com.helpdesk.ticketstatusservice.model.TicketStatus;
 import com.helpdesk.ticketstatusservice.service.TicketStatusService;
+import com.helpdesk.ticketstatusservice.stream.StatusStreamBroker;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
+import java.io.IOException;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/status")
+@Profile("!reactive")
 @RequiredArgsConstructor
 @Validated
 public class TicketStatusController {
 
+    // Clients may keep a copy but must revalidate it; unchanged history is answered with 304
+    private static final CacheControl REVALIDATE = CacheControl.noCache();
+
     private final TicketStatusService ticketStatusService;
+    private final TicketServiceClient ticketServiceClient;
+    private final StatusStreamBroker statusStreamBroker;
 
     @PostMapping("/update")
     public StatusHistoryResponse updateTicketStatus(@Valid @RequestBody StatusUpdateRequest request) {
         return ticketStatusService.updateTicketStatus(request);
     }
 
+    @PostMapping("/update/batch")
+    public StatusUpdateBatchResponse updateTicketStatuses(@Valid @RequestBody StatusUpdateBatchRequest request) {
+        return ticketStatusService.updateTicketStatuses(request.getUpdates());
+    }
+
+    // A matching If-None-Match is answered from the history version alone, before any response is built
     @GetMapping("/{ticketId}")
-    public CurrentStatusResponse getCurrentStatus(
-            @PathVariable @Positive(message = "Ticket ID must be a positive number") Long ticketId) {
-        return ticketStatusService.getCurrentStatus(ticketId);
+    public ResponseEntity<CurrentStatusResponse> getCurrentStatus(
+            @PathVariable @Positive(message = "Ticket ID must be a positive number") Long ticketId,
+            WebRequest request) {
+        String etag = ticketStatusService.getHistoryEtag(ticketId);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE)
+                .body(ticketStatusService.getCurrentStatus(ticketId));
+    }
+
+    @PostMapping("/current")
+    public List<CurrentStatusResponse> getCurrentStatuses(@Valid @RequestBody CurrentStatusBulkRequest request) {
+        return ticketStatusService.getCurrentStatuses(request.getTicketIds());
     }
 
     @GetMapping("/{ticketId}/history")
-    public List<StatusHistoryResponse> getStatusHistory(
-            @PathVariable @Positive(message = "Ticket ID must be a positive number") Long ticketId) {
-        return ticketStatusService.getStatusHistory(ticketId);
+    public ResponseEntity<List<StatusHistoryResponse>> getStatusHistory(
+            @PathVariable @Positive(message = "Ticket ID must be a positive number") Long ticketId,
+            WebRequest request) {
+        String etag = ticketStatusService.getHistoryEtag(ticketId);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE)
+                .body(ticketStatusService.getStatusHistory(ticketId));
     }
 
     @GetMapping("/summary/{date}")
@@ -46,13 +94,55 @@ public class TicketStatusController {
         return ticketStatusService.getStatusSummary(date);
     }
 
+    @GetMapping("/summary")
+    public List<StatusSummaryResponse> getStatusSummaries(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ticketStatusService.getStatusSummaries(from, to);
+    }
+
+    @PostMapping("/summary/rebuild")
+    public List<StatusSummaryResponse> rebuildStatusSummaries(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ticketStatusService.rebuildStatusSummaries(from, to);
+    }
+
     @GetMapping("/all")
-    public List<CurrentStatusResponse> getAllTicketsCurrentStatus() {
-        return ticketStatusService.getAllTicketsCurrentStatus();
+    public CurrentStatusPageResponse getAllTicketsCurrentStatus(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) TicketStatus status) {
+        return ticketStatusService.getAllTicketsCurrentStatus(cursor, size, status);
     }
 
     @GetMapping("")
-    public List<CurrentStatusResponse> getAllTicketsStatus() {
-        return ticketStatusService.getAllTicketsCurrentStatus();
+    public CurrentStatusPageResponse getAllTicketsStatus(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) TicketStatus status) {
+        return ticketStatusService.getAllTicketsCurrentStatus(cursor, size, status);
+    }
+
+    // Pushes every committed status change; repeat ticketId to follow several tickets
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamStatusChanges(
+            @RequestParam(required = false) Set<Long> ticketId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return statusStreamBroker.openEmitter(ticketId, lastEventId);
+    }
+
+    @GetMapping("/cache/stats")
+    public TicketCacheStatsResponse getTicketCacheStats() {
+        return ticketServiceClient.getCacheStats();
+    }
+
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public void exportStatusHistory(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedFrom,
+            HttpServletResponse response) throws IOException {
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        ticketStatusService.exportStatusHistory(updatedFrom, response.getOutputStream());
     }
 }
\ No newline at end of file
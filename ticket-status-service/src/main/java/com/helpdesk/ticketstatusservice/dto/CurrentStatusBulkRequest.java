@@ -0,0 +1,14 @@
+package com.helpdesk.ticketstatusservice.dto;
+
+import lombok.Data;
+
+import jakarta.validation.constraints.*;
+import java.util.List;
+
+@Data
+public class CurrentStatusBulkRequest {
+
+    @NotEmpty(message = "At least one ticket ID is required")
+    @Size(max = 1000, message = "At most 1000 ticket IDs can be requested at once")
+    private List<@NotNull(message = "Ticket ID is required") @Positive(message = "Ticket ID must be a positive number") Long> ticketIds;
+}
@@ -0,0 +1,15 @@
+package com.helpdesk.ticketstatusservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CurrentStatusPageResponse {
+    private List<CurrentStatusResponse> items;
+    private String nextCursor; // Opaque token for the next page, null on the last page
+}
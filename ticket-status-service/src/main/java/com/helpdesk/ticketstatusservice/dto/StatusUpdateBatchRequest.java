@@ -0,0 +1,16 @@
+package com.helpdesk.ticketstatusservice.dto;
+
+import lombok.Data;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import java.util.List;
+
+@Data
+public class StatusUpdateBatchRequest {
+
+    @Valid
+    @NotEmpty(message = "At least one status update is required")
+    @Size(max = 500, message = "At most 500 status updates can be sent at once")
+    private List<@NotNull(message = "Status update is required") StatusUpdateRequest> updates;
+}
@@ -0,0 +1,16 @@
+package com.helpdesk.ticketstatusservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusUpdateBatchResponse {
+    private int succeeded;
+    private int failed;
+    private List<StatusUpdateItemResult> results;
+}
@@ -0,0 +1,16 @@
+package com.helpdesk.ticketstatusservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusUpdateItemResult {
+    private int index; // Position of the update in the request
+    private Long ticketId;
+    private boolean success;
+    private StatusHistoryResponse history; // Saved row, null on failure
+    private String error; // Failure reason, null on success
+}
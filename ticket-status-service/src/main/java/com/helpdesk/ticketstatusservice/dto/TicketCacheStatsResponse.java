@@ -0,0 +1,17 @@
+package com.helpdesk.ticketstatusservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketCacheStatsResponse {
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long evictionCount;
+    private long estimatedSize;
+    private long coalescedLookups; // Lookups that joined an identical call already in flight
+}
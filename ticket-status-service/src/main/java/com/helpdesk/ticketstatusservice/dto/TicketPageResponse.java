@@ -0,0 +1,11 @@
+package com.helpdesk.ticketstatusservice.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class TicketPageResponse {
+    private List<TicketResponse> items;
+    private String nextCursor;
+}
@@ -0,0 +1,22 @@
+package com.helpdesk.ticketstatusservice.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketCreatedEvent {
+
+    @NotNull(message = "Ticket ID is required")
+    @Positive(message = "Ticket ID must be a positive number")
+    private Long ticketId;
+
+    @NotNull(message = "Created at is required")
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,38 @@
+package com.helpdesk.ticketstatusservice.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+// HTTP transport for ticket-created events pushed by the ticket service
+@RestController
+@RequestMapping("/events")
+@Validated
+@RequiredArgsConstructor
+@Slf4j
+public class TicketEventController {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @PostMapping("/tickets")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public void receiveTicketCreated(@Valid @RequestBody TicketCreatedEvent event) {
+        log.debug("Received ticket-created event for ticket {}", event.getTicketId());
+        applicationEventPublisher.publishEvent(event);
+    }
+
+    @PostMapping("/tickets/batch")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public void receiveTicketsCreated(
+            @RequestBody @NotEmpty(message = "At least one event is required") List<@Valid TicketCreatedEvent> events) {
+        log.debug("Received {} ticket-created events", events.size());
+        events.forEach(applicationEventPublisher::publishEvent);
+    }
+}
\ No newline at end of file
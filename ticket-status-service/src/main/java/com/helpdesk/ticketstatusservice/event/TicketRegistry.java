@@ -0,0 +1,96 @@
+package com.helpdesk.ticketstatusservice.event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Local replica of the tickets known to the ticket service, keyed by ticket ID.
+// Ticket IDs come from a pooled sequence (allocation size 50), so they are mostly dense with gaps:
+// every ticket service instance takes blocks of 50 and a restart abandons the rest of its block.
+// Creation times are kept in lazily allocated pages of primitive longs (8 bytes per slot) instead of
+// boxed map entries. Pages are small, 1024 slots or 8 KB, so the waste stays bounded: gaps cost
+// only the empty slots of pages in use, and an ID far from all others costs one 8 KB page.
+// Tickets are immutable, so an entry never changes once registered.
+@Component
+@Slf4j
+public class TicketRegistry {
+
+    private static final int PAGE_BITS = 10;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final long UNKNOWN = 0L;
+
+    private final Map<Long, AtomicLongArray> pages = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    @EventListener
+    public void onTicketCreated(TicketCreatedEvent event) {
+        register(event.getTicketId(), event.getCreatedAt());
+    }
+
+    public void register(Long ticketId, LocalDateTime createdAt) {
+        if (ticketId == null || ticketId <= 0 || createdAt == null) {
+            return;
+        }
+        AtomicLongArray page = pages.computeIfAbsent(ticketId >>> PAGE_BITS, index -> new AtomicLongArray(PAGE_SIZE));
+        if (page.compareAndSet(slot(ticketId), UNKNOWN, encode(createdAt))) {
+            size.incrementAndGet();
+            log.debug("Registered ticket {} in local registry", ticketId);
+        }
+    }
+
+    public Optional<LocalDateTime> findCreatedAt(Long ticketId) {
+        if (ticketId == null || ticketId <= 0) {
+            return Optional.empty();
+        }
+        AtomicLongArray page = pages.get(ticketId >>> PAGE_BITS);
+        if (page == null) {
+            return Optional.empty();
+        }
+        long encoded = page.get(slot(ticketId));
+        return encoded == UNKNOWN ? Optional.empty() : Optional.of(decode(encoded));
+    }
+
+    // Up to limit registered ticket IDs, in no particular order
+    public List<Long> ticketIds(int limit) {
+        List<Long> ticketIds = new ArrayList<>();
+        for (Map.Entry<Long, AtomicLongArray> page : pages.entrySet()) {
+            for (int slot = 0; slot < PAGE_SIZE && ticketIds.size() < limit; slot++) {
+                if (page.getValue().get(slot) != UNKNOWN) {
+                    ticketIds.add((page.getKey() << PAGE_BITS) | slot);
+                }
+            }
+            if (ticketIds.size() >= limit) {
+                break;
+            }
+        }
+        return ticketIds;
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    private static int slot(long ticketId) {
+        return (int) (ticketId & (PAGE_SIZE - 1));
+    }
+
+    // Nanoseconds since the epoch (UTC); fits a long until the year 2262
+    private static long encode(LocalDateTime createdAt) {
+        return createdAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + createdAt.getNano();
+    }
+
+    private static LocalDateTime decode(long encoded) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(encoded, 1_000_000_000L),
+                (int) Math.floorMod(encoded, 1_000_000_000L), ZoneOffset.UTC);
+    }
+}
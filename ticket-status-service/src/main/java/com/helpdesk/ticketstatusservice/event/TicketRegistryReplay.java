@@ -0,0 +1,39 @@
+package com.helpdesk.ticketstatusservice.event;
+
+import com.helpdesk.ticketstatusservice.client.TicketServiceClient;
+import com.helpdesk.ticketstatusservice.dto.TicketResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Stream;
+
+// Catch-up on startup: walks the ticket service's ticket pages to fill the registry with tickets
+// created while this service was down. Lookups fall back to the ticket service until it finishes.
+@Component
+@ConditionalOnProperty(name = "ticket-events.replay-on-startup", havingValue = "true", matchIfMissing = true)
+@Order(Ordered.LOWEST_PRECEDENCE - 1) // before StartupWarmup, which warms up with a registered ticket
+@RequiredArgsConstructor
+@Slf4j
+public class TicketRegistryReplay implements ApplicationRunner {
+
+    private final TicketServiceClient ticketServiceClient;
+    private final TicketRegistry ticketRegistry;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("Replaying tickets into local registry");
+        try (Stream<TicketResponse> tickets = ticketServiceClient.getAllTickets()) {
+            tickets.forEach(ticket -> ticketRegistry.register(ticket.getTicketId(), ticket.getCreatedAt()));
+            log.info("Ticket registry replay finished with {} tickets", ticketRegistry.size());
+        } catch (Exception e) {
+            // Not fatal: unknown tickets are still verified against the ticket service
+            log.warn("Ticket registry replay failed: {}", e.getMessage());
+        }
+    }
+}
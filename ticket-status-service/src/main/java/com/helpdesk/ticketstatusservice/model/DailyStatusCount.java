@@ -0,0 +1,38 @@
+package com.helpdesk.ticketstatusservice.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+// Number of status updates recorded per day and status, maintained alongside ticket_status_history
+@Entity
+@Table(name = "daily_status_counts")
+@IdClass(DailyStatusCount.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyStatusCount {
+
+    @Id
+    @Column(name = "status_day")
+    private LocalDate day;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    private TicketStatus status;
+
+    @Column(name = "update_count", nullable = false)
+    private long count;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private LocalDate day;
+        private TicketStatus status;
+    }
+}
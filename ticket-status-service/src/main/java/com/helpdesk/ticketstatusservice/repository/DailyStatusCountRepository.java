@@ -0,0 +1,26 @@
+package com.helpdesk.ticketstatusservice.repository;
+
+import com.helpdesk.ticketstatusservice.model.DailyStatusCount;
+import com.helpdesk.ticketstatusservice.model.TicketStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailyStatusCountRepository extends JpaRepository<DailyStatusCount, DailyStatusCount.Key> {
+
+    List<DailyStatusCount> findByDayBetween(LocalDate from, LocalDate to);
+
+    @Modifying
+    @Query("UPDATE DailyStatusCount c SET c.count = c.count + :delta WHERE c.day = :day AND c.status = :status")
+    int increment(@Param("day") LocalDate day, @Param("status") TicketStatus status, @Param("delta") long delta);
+
+    @Modifying
+    @Query("DELETE FROM DailyStatusCount c WHERE c.day = :day")
+    int deleteByDay(@Param("day") LocalDate day);
+}
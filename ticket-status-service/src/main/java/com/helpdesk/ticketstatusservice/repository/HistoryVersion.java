@@ -0,0 +1,5 @@
+package com.helpdesk.ticketstatusservice.repository;
+
+// Number of history rows of a ticket and the highest row ID; latestId is null while there is no history
+public record HistoryVersion(Long rowCount, Long latestId) {
+}
@@ -0,0 +1,112 @@
+package com.helpdesk.ticketstatusservice.repository;
+
+import com.helpdesk.ticketstatusservice.archive.StatusHistoryArchive;
+import com.helpdesk.ticketstatusservice.model.TicketStatus;
+import com.helpdesk.ticketstatusservice.model.TicketStatusHistory;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// ticket_status_history, with reads falling through to StatusHistoryArchive for the history of
+// archived tickets. A ticket updated after it was archived has rows in both, which are merged.
+@Repository
+@ConditionalOnProperty(name = "status-history.storage", havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+public class JpaStatusHistoryStore implements StatusHistoryStore {
+
+    private static final Comparator<TicketStatusHistory> OLDEST_FIRST =
+            Comparator.comparing(TicketStatusHistory::getUpdatedAt).thenComparing(TicketStatusHistory::getId);
+
+    private final TicketStatusHistoryRepository statusHistoryRepository;
+    private final StatusHistoryArchive statusHistoryArchive;
+    private final EntityManager entityManager;
+
+    @Override
+    public List<TicketStatusHistory> saveAll(List<TicketStatusHistory> history) {
+        List<TicketStatusHistory> saved = statusHistoryRepository.saveAll(history);
+        // With sequence IDs the inserts would wait for commit, and with them the @CreationTimestamp values
+        // the rollup counters and the responses read. Flushing still sends them as one JDBC batch.
+        statusHistoryRepository.flush();
+        return saved;
+    }
+
+    @Override
+    public List<TicketStatusHistory> findByTicketIdOrderByUpdatedAtDesc(Long ticketId) {
+        List<TicketStatusHistory> hot = statusHistoryRepository.findByTicketIdOrderByUpdatedAtDesc(ticketId);
+        if (!statusHistoryArchive.contains(ticketId)) {
+            return hot;
+        }
+        // An archive run that stopped between writing its file and deleting the rows leaves them in both
+        Map<Long, TicketStatusHistory> byId = new LinkedHashMap<>();
+        statusHistoryArchive.findByTicketId(ticketId).forEach(row -> byId.put(row.getId(), row));
+        hot.forEach(row -> byId.put(row.getId(), row));
+        List<TicketStatusHistory> history = new ArrayList<>(byId.values());
+        history.sort(OLDEST_FIRST.reversed());
+        return history;
+    }
+
+    @Override
+    public Optional<TicketStatusHistory> findFirstByTicketIdOrderByUpdatedAtDescIdDesc(Long ticketId) {
+        // Rows still in the table are never older than the archived ones
+        Optional<TicketStatusHistory> hot = statusHistoryRepository.findFirstByTicketIdOrderByUpdatedAtDescIdDesc(ticketId);
+        if (hot.isPresent()) {
+            return hot;
+        }
+        return statusHistoryArchive.findLatestByTicketId(ticketId);
+    }
+
+    @Override
+    public HistoryVersion findHistoryVersion(Long ticketId) {
+        HistoryVersion hot = statusHistoryRepository.findHistoryVersion(ticketId);
+        HistoryVersion archived = statusHistoryArchive.findHistoryVersion(ticketId);
+        if (archived.latestId() == null) {
+            return hot;
+        }
+        long latestId = hot.latestId() == null ? archived.latestId() : Math.max(hot.latestId(), archived.latestId());
+        return new HistoryVersion(hot.rowCount() + archived.rowCount(), latestId);
+    }
+
+    @Override
+    public List<Object[]> countByStatusBetween(LocalDateTime start, LocalDateTime end) {
+        Map<TicketStatus, Long> counts = new EnumMap<>(statusHistoryArchive.countByStatusBetween(start, end));
+        for (Object[] row : statusHistoryRepository.countByStatusBetween(start, end)) {
+            counts.merge((TicketStatus) row[0], (Long) row[1], Long::sum);
+        }
+        List<Object[]> rows = new ArrayList<>();
+        counts.forEach((status, count) -> rows.add(new Object[]{status, count}));
+        return rows;
+    }
+
+    @Override
+    public List<TicketStatusHistory> findLatestByTicketIdIn(Collection<Long> ticketIds) {
+        List<TicketStatusHistory> latest = new ArrayList<>(statusHistoryRepository.findLatestByTicketIdIn(ticketIds));
+        Set<Long> missing = new LinkedHashSet<>(ticketIds);
+        missing.removeAll(latest.stream().map(TicketStatusHistory::getTicketId).collect(Collectors.toSet()));
+        // Served from the archive's in-memory index, without reading its files
+        latest.addAll(statusHistoryArchive.findLatestByTicketIdIn(missing));
+        return latest;
+    }
+
+    @Override
+    public Stream<TicketStatusHistory> streamForExport(LocalDateTime updatedFrom) {
+        // Archived rows first, then the table in ID order. Detach each table row so the persistence
+        // context does not grow with the export
+        return Stream.concat(statusHistoryArchive.stream(updatedFrom),
+                statusHistoryRepository.streamForExport(updatedFrom).peek(entityManager::detach));
+    }
+}
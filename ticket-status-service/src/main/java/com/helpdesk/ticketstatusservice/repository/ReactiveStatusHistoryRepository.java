@@ -0,0 +1,150 @@
+package com.helpdesk.ticketstatusservice.repository;
+
+import com.helpdesk.ticketstatusservice.model.TicketStatus;
+import com.helpdesk.ticketstatusservice.model.TicketStatusHistory;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantLock;
+
+// R2DBC access to ticket_status_history and daily_status_counts for the reactive profile.
+// Same tables, indexes and queries as the JPA repositories, written as SQL.
+@Repository
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveStatusHistoryRepository {
+
+    private static final String COLUMNS = "id, ticket_id, status, updated_by, updated_at";
+    // INCREMENT BY of ticket_status_history_seq and allocationSize of TicketStatusHistory
+    private static final long ID_BLOCK_SIZE = 50;
+
+    private final DatabaseClient databaseClient;
+
+    // IDs are handed out like Hibernate's pooled optimizer does: every sequence value fetched is the top
+    // of a block of 50, used up locally before the next fetch, so one sequence value serves 50 rows and
+    // blocks taken here and by JPA never overlap. Guarded by idLock; the block is [nextId, maxId], empty
+    // when nextId > maxId.
+    private final ReentrantLock idLock = new ReentrantLock();
+    private long nextId = 1;
+    private long maxId = 0;
+
+    public Mono<TicketStatusHistory> insert(TicketStatusHistory history) {
+        return nextId().flatMap(id -> databaseClient.sql("INSERT INTO ticket_status_history (" + COLUMNS + ") " +
+                                "VALUES (:id, :ticketId, :status, :updatedBy, :updatedAt)")
+                        .bind("id", id)
+                        .bind("ticketId", history.getTicketId())
+                        .bind("status", history.getStatus().name())
+                        .bind("updatedBy", history.getUpdatedBy())
+                        .bind("updatedAt", history.getUpdatedAt())
+                        .then()
+                        .thenReturn(new TicketStatusHistory(id, history.getTicketId(), history.getStatus(),
+                                history.getUpdatedBy(), history.getUpdatedAt())));
+    }
+
+    private Mono<Long> nextId() {
+        return Mono.defer(() -> {
+            idLock.lock();
+            try {
+                if (nextId <= maxId) {
+                    return Mono.just(nextId++);
+                }
+            } finally {
+                idLock.unlock();
+            }
+            return databaseClient.sql("SELECT NEXT VALUE FOR ticket_status_history_seq AS block_top")
+                    .map(row -> row.get("block_top", Long.class))
+                    .one()
+                    .map(this::startBlock);
+        });
+    }
+
+    // The first value of the fetched block goes to the caller. Callers that ran out together each fetch a
+    // block; only one becomes the current block and the rest of the others are left unused.
+    private long startBlock(long blockTop) {
+        // The sequence starts at 1, so the first block it hands out has only that value
+        long first = Math.max(1, blockTop - ID_BLOCK_SIZE + 1);
+        idLock.lock();
+        try {
+            if (nextId > maxId) {
+                nextId = first + 1;
+                maxId = blockTop;
+            }
+        } finally {
+            idLock.unlock();
+        }
+        return first;
+    }
+
+    public Flux<TicketStatusHistory> findByTicketIdOrderByUpdatedAtDesc(Long ticketId) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM ticket_status_history " +
+                        "WHERE ticket_id = :ticketId ORDER BY updated_at DESC")
+                .bind("ticketId", ticketId)
+                .map(ReactiveStatusHistoryRepository::toHistory)
+                .all();
+    }
+
+    public Mono<TicketStatusHistory> findLatestByTicketId(Long ticketId) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM ticket_status_history " +
+                        "WHERE ticket_id = :ticketId ORDER BY updated_at DESC, id DESC LIMIT 1")
+                .bind("ticketId", ticketId)
+                .map(ReactiveStatusHistoryRepository::toHistory)
+                .one();
+    }
+
+    public Mono<HistoryVersion> findHistoryVersion(Long ticketId) {
+        return databaseClient.sql("SELECT COUNT(*) AS row_count, MAX(id) AS latest_id FROM ticket_status_history " +
+                        "WHERE ticket_id = :ticketId")
+                .bind("ticketId", ticketId)
+                .map(row -> new HistoryVersion(row.get("row_count", Long.class), row.get("latest_id", Long.class)))
+                .one();
+    }
+
+    // Latest history row per ticket: a row is the latest when no newer row exists for the same ticket
+    public Flux<TicketStatusHistory> findLatestByTicketIdIn(Collection<Long> ticketIds) {
+        if (ticketIds.isEmpty()) {
+            return Flux.empty();
+        }
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM ticket_status_history h " +
+                        "WHERE h.ticket_id IN (:ticketIds) AND NOT EXISTS (" +
+                        "SELECT 1 FROM ticket_status_history n WHERE n.ticket_id = h.ticket_id AND " +
+                        "(n.updated_at > h.updated_at OR (n.updated_at = h.updated_at AND n.id > h.id)))")
+                .bind("ticketIds", ticketIds)
+                .map(ReactiveStatusHistoryRepository::toHistory)
+                .all();
+    }
+
+    // Adds delta to a daily counter, creating the row on the day's first update of that status.
+    // A concurrent first insert loses on the primary key and is retried as an update.
+    public Mono<Void> incrementDailyCount(LocalDate day, TicketStatus status, long delta) {
+        return databaseClient.sql("MERGE INTO daily_status_counts c " +
+                        "USING (VALUES (CAST(:day AS DATE), CAST(:status AS VARCHAR(32)))) AS k(status_day, status) " +
+                        "ON c.status_day = k.status_day AND c.status = k.status " +
+                        "WHEN MATCHED THEN UPDATE SET update_count = c.update_count + :delta " +
+                        "WHEN NOT MATCHED THEN INSERT (status_day, status, update_count) " +
+                        "VALUES (k.status_day, k.status, :delta)")
+                .bind("day", day)
+                .bind("status", status.name())
+                .bind("delta", delta)
+                .then()
+                .retryWhen(Retry.max(1).filter(DataIntegrityViolationException.class::isInstance));
+    }
+
+    private static TicketStatusHistory toHistory(Readable row) {
+        return new TicketStatusHistory(
+                row.get("id", Long.class),
+                row.get("ticket_id", Long.class),
+                TicketStatus.valueOf(row.get("status", String.class)),
+                row.get("updated_by", String.class),
+                row.get("updated_at", LocalDateTime.class));
+    }
+}
@@ -0,0 +1,586 @@
+package com.helpdesk.ticketstatusservice.repository;
+
+import com.helpdesk.ticketstatusservice.model.TicketStatus;
+import com.helpdesk.ticketstatusservice.model.TicketStatusHistory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+// Status history as an append-only log of fixed-size records in memory-mapped segment files, for
+// status-history.storage=log. Record n of the log has ID n + 1, so an ID is also its file offset, and
+// a per-ticket list of record numbers answers history reads with one record read per row. updatedAt
+// never decreases along the log, which keeps it sorted by time for the rollup rebuild and the export.
+//
+// saveAll returns once its records are on the disk. A single sync thread forces everything appended
+// since its last pass, so concurrent writers share one fsync (group commit). On startup the segments
+// are scanned to rebuild the index; a torn record at the tail, one that was never acknowledged, ends
+// the log there.
+@Repository
+@ConditionalOnProperty(name = "status-history.storage", havingValue = "log")
+@RequiredArgsConstructor
+@Slf4j
+public class StatusEventLogStore implements StatusHistoryStore {
+
+    // Record layout:
+    //   0  int    CRC32C of bytes 4-127
+    //   4  byte   1 once the slot holds a record; a new segment is all zeros
+    //   5  byte   status ordinal, so TicketStatus values may only be added at the end
+    //   6  short  length of updatedBy in bytes
+    //   8  long   ticket ID
+    //  16  long   updatedAt in microseconds since the epoch, read as UTC
+    //  24  bytes  updatedBy in UTF-8
+    static final int RECORD_SIZE = 128;
+    private static final int HEADER_SIZE = 24;
+    private static final int MAX_UPDATED_BY_BYTES = RECORD_SIZE - HEADER_SIZE;
+    private static final byte RECORD_MARKER = 1;
+    private static final TicketStatus[] STATUSES = TicketStatus.values();
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${status-history.log.dir:./data/status-log}")
+    private String dir;
+
+    @Value("${status-history.log.segment-size:64MB}")
+    private DataSize segmentSize;
+
+    @Value("${status-history.log.group-commit-delay:1ms}")
+    private Duration groupCommitDelay;
+
+    private Path directory;
+    private int recordsPerSegment;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ByteBuffer recordBuffer = ByteBuffer.allocate(RECORD_SIZE);
+    private final CRC32C crc = new CRC32C();
+
+    // Guarded by lock; written records never change, so readers copy what they need and decode outside it
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private final Map<Long, Positions> positionsByTicket = new HashMap<>();
+    private long lastUpdatedAtMicros;
+
+    // Records in the log; only written under lock, read by the sync thread without it
+    private volatile long appended;
+
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final Condition syncRequested = syncLock.newCondition();
+    private final Condition syncCompleted = syncLock.newCondition();
+
+    // Guarded by syncLock
+    private long synced;
+    private boolean closed;
+
+    private final AtomicLong appendedCount = new AtomicLong();
+    private final AtomicLong syncCount = new AtomicLong();
+    private Thread syncThread;
+
+    @PostConstruct
+    void open() throws IOException {
+        directory = Path.of(dir);
+        Files.createDirectories(directory);
+        long configuredRecords = segmentSize.toBytes() / RECORD_SIZE;
+        if (configuredRecords < 1 || configuredRecords * RECORD_SIZE > Integer.MAX_VALUE) {
+            throw new IllegalStateException("status-history.log.segment-size must be between "
+                    + RECORD_SIZE + " bytes and 2GB");
+        }
+        recordsPerSegment = (int) configuredRecords;
+
+        long start = System.nanoTime();
+        replay();
+        synced = appended;
+        log.info("Status event log opened in {} ms: {} records for {} tickets in {} segments under {}",
+                (System.nanoTime() - start) / 1_000_000, appended, positionsByTicket.size(), segments.size(),
+                directory.toAbsolutePath());
+
+        syncThread = new Thread(this::syncLoop, "status-log-sync");
+        syncThread.setDaemon(true);
+        syncThread.start();
+
+        FunctionCounter.builder("status.log.records.appended", appendedCount, AtomicLong::get)
+                .description("Status history records appended to the status event log")
+                .register(meterRegistry);
+        FunctionCounter.builder("status.log.syncs", syncCount, AtomicLong::get)
+                .description("Forces of the status event log onto the disk, each covering every writer waiting on it")
+                .register(meterRegistry);
+        Gauge.builder("status.log.segments", this, StatusEventLogStore::segmentCount)
+                .description("Segment files of the status event log")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void close() throws InterruptedException {
+        syncLock.lock();
+        try {
+            closed = true;
+            syncRequested.signal();
+        } finally {
+            syncLock.unlock();
+        }
+        // The sync thread forces what is still pending before it exits
+        syncThread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    @Override
+    public List<TicketStatusHistory> saveAll(List<TicketStatusHistory> history) {
+        if (history.isEmpty()) {
+            return history;
+        }
+        // Every row is checked before anything is written, so a bad row cannot fail the batch halfway
+        List<byte[]> updatedBy = new ArrayList<>(history.size());
+        for (TicketStatusHistory row : history) {
+            if (row.getTicketId() == null || row.getStatus() == null || row.getUpdatedBy() == null) {
+                throw new IllegalArgumentException("Ticket ID, status and updated by are required");
+            }
+            byte[] bytes = row.getUpdatedBy().getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > MAX_UPDATED_BY_BYTES) {
+                throw new IllegalArgumentException("Updated by must not exceed " + MAX_UPDATED_BY_BYTES + " bytes");
+            }
+            updatedBy.add(bytes);
+        }
+
+        long first;
+        long last;
+        lock.writeLock().lock();
+        try {
+            // Segments first, so a failure to create one leaves nothing half-appended
+            first = appended;
+            int lastSegment = (int) ((first + history.size() - 1) / recordsPerSegment);
+            while (segments.size() <= lastSegment) {
+                segments.add(mapSegment(segments.size(), true));
+            }
+            // The caller's updatedAt if it set one, but never earlier than the previous record, even if
+            // the clock steps back
+            long[] updatedAtMicros = new long[history.size()];
+            long previousMicros = lastUpdatedAtMicros;
+            for (int i = 0; i < history.size(); i++) {
+                TicketStatusHistory row = history.get(i);
+                previousMicros = Math.max(toMicros(row.getUpdatedAt() != null ? row.getUpdatedAt()
+                        : LocalDateTime.now()), previousMicros);
+                updatedAtMicros[i] = previousMicros;
+            }
+
+            long position = first;
+            try {
+                for (int i = 0; i < history.size(); i++, position++) {
+                    write(position, history.get(i), updatedBy.get(i), updatedAtMicros[i]);
+                }
+            } catch (RuntimeException e) {
+                // Nothing was published; clear the slots written so far so a restart does not replay them
+                for (long written = first; written < position; written++) {
+                    segments.get((int) (written / recordsPerSegment)).put(offset(written), new byte[RECORD_SIZE]);
+                }
+                throw e;
+            }
+
+            // All records are in place: publish them to the index and to readers together
+            for (int i = 0; i < history.size(); i++) {
+                TicketStatusHistory row = history.get(i);
+                row.setId(first + i + 1);
+                row.setUpdatedAt(fromMicros(updatedAtMicros[i]));
+                positionsByTicket.computeIfAbsent(row.getTicketId(), ticketId -> new Positions()).add(first + i);
+            }
+            lastUpdatedAtMicros = previousMicros;
+            appended = position;
+            last = position;
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to append to the status event log", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        appendedCount.addAndGet(history.size());
+
+        awaitSynced(last);
+        return history;
+    }
+
+    @Override
+    public boolean joinsTransactions() {
+        return false;
+    }
+
+    @Override
+    public List<TicketStatusHistory> findByTicketIdOrderByUpdatedAtDesc(Long ticketId) {
+        Snapshot snapshot;
+        long[] positions;
+        lock.readLock().lock();
+        try {
+            snapshot = snapshot();
+            positions = positions(ticketId);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<TicketStatusHistory> history = new ArrayList<>(positions.length);
+        for (int i = positions.length - 1; i >= 0; i--) {
+            history.add(snapshot.read(positions[i]));
+        }
+        return history;
+    }
+
+    @Override
+    public Optional<TicketStatusHistory> findFirstByTicketIdOrderByUpdatedAtDescIdDesc(Long ticketId) {
+        List<TicketStatusHistory> latest = findLatestByTicketIdIn(List.of(ticketId));
+        return latest.isEmpty() ? Optional.empty() : Optional.of(latest.get(0));
+    }
+
+    @Override
+    public HistoryVersion findHistoryVersion(Long ticketId) {
+        lock.readLock().lock();
+        try {
+            Positions positions = positionsByTicket.get(ticketId);
+            if (positions == null) {
+                return new HistoryVersion(0L, null);
+            }
+            return new HistoryVersion((long) positions.size, positions.last() + 1);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Object[]> countByStatusBetween(LocalDateTime start, LocalDateTime end) {
+        Snapshot snapshot = readSnapshot();
+        long endMicros = toMicros(end);
+        Map<TicketStatus, Long> counts = new EnumMap<>(TicketStatus.class);
+        for (long position = snapshot.firstAtOrAfter(toMicros(start)); position < snapshot.records(); position++) {
+            if (snapshot.updatedAtMicros(position) >= endMicros) {
+                break;
+            }
+            counts.merge(snapshot.status(position), 1L, Long::sum);
+        }
+
+        List<Object[]> rows = new ArrayList<>();
+        counts.forEach((status, count) -> rows.add(new Object[]{status, count}));
+        return rows;
+    }
+
+    @Override
+    public List<TicketStatusHistory> findLatestByTicketIdIn(Collection<Long> ticketIds) {
+        Snapshot snapshot;
+        List<Long> latestPositions = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            snapshot = snapshot();
+            for (Long ticketId : new LinkedHashSet<>(ticketIds)) {
+                Positions positions = positionsByTicket.get(ticketId);
+                if (positions != null) {
+                    latestPositions.add(positions.last());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<TicketStatusHistory> latest = new ArrayList<>(latestPositions.size());
+        for (long position : latestPositions) {
+            latest.add(snapshot.read(position));
+        }
+        return latest;
+    }
+
+    @Override
+    public Stream<TicketStatusHistory> streamForExport(LocalDateTime updatedFrom) {
+        Snapshot snapshot = readSnapshot();
+        long from = updatedFrom == null ? 0 : snapshot.firstAtOrAfter(toMicros(updatedFrom));
+        return LongStream.range(from, snapshot.records()).mapToObj(snapshot::read);
+    }
+
+    private int segmentCount() {
+        lock.readLock().lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Caller holds the write lock
+    private void write(long position, TicketStatusHistory row, byte[] updatedBy, long updatedAtMicros) {
+        Arrays.fill(recordBuffer.array(), (byte) 0);
+        recordBuffer.clear();
+        recordBuffer.putInt(0)
+                .put(RECORD_MARKER)
+                .put((byte) row.getStatus().ordinal())
+                .putShort((short) updatedBy.length)
+                .putLong(row.getTicketId())
+                .putLong(updatedAtMicros)
+                .put(updatedBy);
+        recordBuffer.putInt(0, checksum(crc, recordBuffer, 0));
+        segments.get((int) (position / recordsPerSegment)).put(offset(position), recordBuffer, 0, RECORD_SIZE);
+    }
+
+    // Caller holds the read lock
+    private Snapshot snapshot() {
+        return new Snapshot(segments.toArray(new MappedByteBuffer[0]), appended, recordsPerSegment);
+    }
+
+    private Snapshot readSnapshot() {
+        lock.readLock().lock();
+        try {
+            return snapshot();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Caller holds the read lock
+    private long[] positions(Long ticketId) {
+        Positions positions = positionsByTicket.get(ticketId);
+        return positions == null ? new long[0] : Arrays.copyOf(positions.values, positions.size);
+    }
+
+    private void awaitSynced(long records) {
+        syncLock.lock();
+        try {
+            syncRequested.signal();
+            while (synced < records) {
+                if (closed) {
+                    throw new IllegalStateException("Status event log is closed");
+                }
+                syncCompleted.awaitUninterruptibly();
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void syncLoop() {
+        while (true) {
+            long from;
+            syncLock.lock();
+            try {
+                while (!closed && synced >= appended) {
+                    syncRequested.awaitUninterruptibly();
+                }
+                if (closed && synced >= appended) {
+                    return;
+                }
+                from = synced;
+            } finally {
+                syncLock.unlock();
+            }
+
+            // Give concurrent writers a moment to append, so one force covers all of them
+            if (!groupCommitDelay.isZero()) {
+                LockSupport.parkNanos(groupCommitDelay.toNanos());
+            }
+            long to = appended;
+            try {
+                force(from, to);
+            } catch (RuntimeException e) {
+                // Writers keep waiting for their records; try again shortly
+                log.error("Unable to sync the status event log: {}", e.getMessage());
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(100));
+                continue;
+            }
+            syncCount.incrementAndGet();
+
+            syncLock.lock();
+            try {
+                synced = to;
+                syncCompleted.signalAll();
+            } finally {
+                syncLock.unlock();
+            }
+        }
+    }
+
+    // Flushes the dirty pages of records [from, to) onto the disk
+    private void force(long from, long to) {
+        MappedByteBuffer[] buffers = readSnapshot().segments();
+        for (long position = from; position < to; ) {
+            int segment = (int) (position / recordsPerSegment);
+            long segmentEnd = Math.min(to, (segment + 1L) * recordsPerSegment);
+            buffers[segment].force(offset(position), (int) (segmentEnd - position) * RECORD_SIZE);
+            position = segmentEnd;
+        }
+    }
+
+    // Maps the existing segments in order and indexes their records, stopping at the first empty or torn slot
+    private void replay() throws IOException {
+        List<Path> files;
+        try (Stream<Path> paths = Files.list(directory)) {
+            files = paths.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX)).sorted().toList();
+        }
+        if (!files.isEmpty()) {
+            // Existing segments keep the size they were created with
+            long existingRecords = Files.size(files.get(0)) / RECORD_SIZE;
+            if (existingRecords > 0 && existingRecords != recordsPerSegment) {
+                log.warn("Status event log segments hold {} records each; ignoring the configured segment size",
+                        existingRecords);
+                recordsPerSegment = (int) existingRecords;
+            }
+        }
+
+        CRC32C replayCrc = new CRC32C();
+        for (int segment = 0; segment < files.size(); segment++) {
+            if (!files.get(segment).equals(segmentPath(segment))) {
+                throw new IllegalStateException("Status event log segment " + segmentPath(segment) + " is missing");
+            }
+            MappedByteBuffer buffer = mapSegment(segment, false);
+            segments.add(buffer);
+
+            for (int slot = 0; slot < recordsPerSegment; slot++) {
+                int offset = slot * RECORD_SIZE;
+                if (buffer.get(offset + 4) != RECORD_MARKER
+                        || buffer.getInt(offset) != checksum(replayCrc, buffer, offset)) {
+                    truncate(segment, slot, files);
+                    return;
+                }
+                long position = appended;
+                positionsByTicket.computeIfAbsent(buffer.getLong(offset + 8), ticketId -> new Positions())
+                        .add(position);
+                lastUpdatedAtMicros = Math.max(lastUpdatedAtMicros, buffer.getLong(offset + 16));
+                appended = position + 1;
+            }
+        }
+    }
+
+    // Ends the log before the given slot. Pages of a memory-mapped file reach the disk in any order, so
+    // records may follow an empty or torn slot; none of them was acknowledged, as a sync only reports
+    // success once everything before its end is on the disk.
+    private void truncate(int segment, int slot, List<Path> files) throws IOException {
+        MappedByteBuffer buffer = segments.get(segment);
+        int offset = slot * RECORD_SIZE;
+        int length = recordsPerSegment * RECORD_SIZE - offset;
+        if (buffer.get(offset + 4) != 0 || segment + 1 < files.size()) {
+            log.warn("Status event log ends with an incomplete write; dropping everything after record {}", appended);
+        }
+        buffer.put(offset, new byte[length]);
+        buffer.force(offset, length);
+        for (int later = segment + 1; later < files.size(); later++) {
+            Files.delete(files.get(later));
+        }
+    }
+
+    private MappedByteBuffer mapSegment(int segment, boolean create) throws IOException {
+        Path path = segmentPath(segment);
+        long size = (long) recordsPerSegment * RECORD_SIZE;
+        StandardOpenOption[] options = create
+                ? new StandardOpenOption[]{StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE}
+                : new StandardOpenOption[]{StandardOpenOption.READ, StandardOpenOption.WRITE};
+        // The mapping stays valid after the channel is closed; mapping past the end grows the file with zeros
+        try (FileChannel channel = FileChannel.open(path, options)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    private Path segmentPath(int segment) {
+        return directory.resolve(String.format("%010d%s", segment, SEGMENT_SUFFIX));
+    }
+
+    private int offset(long position) {
+        return (int) (position % recordsPerSegment) * RECORD_SIZE;
+    }
+
+    private static int checksum(CRC32C crc, ByteBuffer buffer, int offset) {
+        crc.reset();
+        crc.update(buffer.slice(offset + 4, RECORD_SIZE - 4));
+        return (int) crc.getValue();
+    }
+
+    private static long toMicros(LocalDateTime time) {
+        return TimeUnit.SECONDS.toMicros(time.toEpochSecond(ZoneOffset.UTC)) + time.getNano() / 1000;
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+                (int) Math.floorMod(micros, 1_000_000) * 1000, ZoneOffset.UTC);
+    }
+
+    // Record numbers of one ticket's history, oldest first
+    private static final class Positions {
+
+        private long[] values = new long[4];
+        private int size;
+
+        void add(long position) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = position;
+        }
+
+        long last() {
+            return values[size - 1];
+        }
+    }
+
+    // The segments and record count at one moment; records before that count never change
+    private record Snapshot(MappedByteBuffer[] segments, long records, int recordsPerSegment) {
+
+        TicketStatusHistory read(long position) {
+            ByteBuffer segment = segments[(int) (position / recordsPerSegment)];
+            int offset = (int) (position % recordsPerSegment) * RECORD_SIZE;
+            byte[] updatedBy = new byte[segment.getShort(offset + 6)];
+            segment.get(offset + HEADER_SIZE, updatedBy);
+            return new TicketStatusHistory(position + 1, segment.getLong(offset + 8),
+                    STATUSES[segment.get(offset + 5)], new String(updatedBy, StandardCharsets.UTF_8),
+                    fromMicros(segment.getLong(offset + 16)));
+        }
+
+        TicketStatus status(long position) {
+            return STATUSES[segments[(int) (position / recordsPerSegment)]
+                    .get((int) (position % recordsPerSegment) * RECORD_SIZE + 5)];
+        }
+
+        long updatedAtMicros(long position) {
+            return segments[(int) (position / recordsPerSegment)]
+                    .getLong((int) (position % recordsPerSegment) * RECORD_SIZE + 16);
+        }
+
+        // Binary search for the first record updated at or after the given time
+        long firstAtOrAfter(long micros) {
+            long low = 0;
+            long high = records;
+            while (low < high) {
+                long middle = (low + high) >>> 1;
+                if (updatedAtMicros(middle) < micros) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.helpdesk.ticketstatusservice.repository;
+
+import com.helpdesk.ticketstatusservice.model.TicketStatusHistory;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+// Where the servlet stack keeps status history, chosen with status-history.storage: the
+// ticket_status_history table (jpa, the default) or the append-only StatusEventLogStore (log).
+// Either way rows are only ever appended, and saving assigns their ID and updatedAt.
+public interface StatusHistoryStore {
+
+    List<TicketStatusHistory> saveAll(List<TicketStatusHistory> history);
+
+    // Whether saveAll takes part in the caller's JPA transaction. The event log does not: what it has
+    // appended stays even if that transaction rolls back.
+    default boolean joinsTransactions() {
+        return true;
+    }
+
+    List<TicketStatusHistory> findByTicketIdOrderByUpdatedAtDesc(Long ticketId);
+
+    Optional<TicketStatusHistory> findFirstByTicketIdOrderByUpdatedAtDescIdDesc(Long ticketId);
+
+    HistoryVersion findHistoryVersion(Long ticketId);
+
+    // Rows of [TicketStatus, Long count] for updates in [start, end)
+    List<Object[]> countByStatusBetween(LocalDateTime start, LocalDateTime end);
+
+    List<TicketStatusHistory> findLatestByTicketIdIn(Collection<Long> ticketIds);
+
+    // In ID order; must be consumed inside a read-only transaction and closed
+    Stream<TicketStatusHistory> streamForExport(LocalDateTime updatedFrom);
+}
@@ -1,11 +1,21 @@
 package com.helpdesk.ticketstatusservice.repository;
 
+import com.helpdesk.ticketstatusservice.model.TicketStatus;
 import com.helpdesk.ticketstatusservice.model.TicketStatusHistory;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TicketStatusHistoryRepository extends JpaRepository<TicketStatusHistory, Long> {
@@ -13,4 +23,44 @@ public interface TicketStatusHistoryRepository extends JpaRepository<TicketStatu
     List<TicketStatusHistory> findByTicketIdOrderByUpdatedAtDesc(Long ticketId);
     
     List<TicketStatusHistory> findByUpdatedAtBetween(LocalDateTime startOfDay, LocalDateTime endOfDay);
+
+    Optional<TicketStatusHistory> findFirstByTicketIdOrderByUpdatedAtDescIdDesc(Long ticketId);
+
+    // Answered from idx_status_history_ticket_updated without reading the rows themselves
+    @Query("SELECT new com.helpdesk.ticketstatusservice.repository.HistoryVersion(COUNT(h), MAX(h.id)) " +
+            "FROM TicketStatusHistory h WHERE h.ticketId = :ticketId")
+    HistoryVersion findHistoryVersion(@Param("ticketId") Long ticketId);
+
+    // Rows of [TicketStatus, Long count] for updates in [start, end)
+    @Query("SELECT h.status, COUNT(h) FROM TicketStatusHistory h " +
+            "WHERE h.updatedAt >= :start AND h.updatedAt < :end GROUP BY h.status")
+    List<Object[]> countByStatusBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // Latest history row per ticket: a row is the latest when no newer row exists for the same ticket
+    @Query("SELECT h FROM TicketStatusHistory h WHERE h.ticketId IN :ticketIds AND NOT EXISTS (" +
+            "SELECT n.id FROM TicketStatusHistory n WHERE n.ticketId = h.ticketId AND " +
+            "(n.updatedAt > h.updatedAt OR (n.updatedAt = h.updatedAt AND n.id > h.id)))")
+    List<TicketStatusHistory> findLatestByTicketIdIn(@Param("ticketIds") Collection<Long> ticketIds);
+
+    // Tickets after afterTicketId, in ID order, whose latest row has the given status and is older than before
+    @Query("SELECT h.ticketId FROM TicketStatusHistory h WHERE h.ticketId > :afterTicketId " +
+            "AND h.status = :status AND h.updatedAt < :before AND NOT EXISTS (" +
+            "SELECT n.id FROM TicketStatusHistory n WHERE n.ticketId = h.ticketId AND " +
+            "(n.updatedAt > h.updatedAt OR (n.updatedAt = h.updatedAt AND n.id > h.id))) " +
+            "ORDER BY h.ticketId ASC")
+    List<Long> findTicketIdsWithLatestStatusBefore(@Param("afterTicketId") Long afterTicketId,
+                                                   @Param("status") TicketStatus status,
+                                                   @Param("before") LocalDateTime before,
+                                                   Pageable pageable);
+
+    List<TicketStatusHistory> findByTicketIdIn(Collection<Long> ticketIds);
+
+    // Cursor-backed stream for exports; must be consumed inside a transaction
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT h FROM TicketStatusHistory h WHERE (:updatedFrom IS NULL OR h.updatedAt >= :updatedFrom) " +
+            "ORDER BY h.id ASC")
+    Stream<TicketStatusHistory> streamForExport(@Param("updatedFrom") LocalDateTime updatedFrom);
 }
\ No newline at end of file
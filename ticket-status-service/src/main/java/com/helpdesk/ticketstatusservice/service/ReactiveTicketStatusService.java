@@ -0,0 +1,241 @@
+package com.helpdesk.ticketstatusservice.service;
+
+import com.helpdesk.ticketstatusservice.client.ReactiveTicketServiceClient;
+import com.helpdesk.ticketstatusservice.dto.CurrentStatusPageResponse;
+import com.helpdesk.ticketstatusservice.dto.CurrentStatusResponse;
+import com.helpdesk.ticketstatusservice.dto.StatusHistoryResponse;
+import com.helpdesk.ticketstatusservice.dto.StatusUpdateBatchResponse;
+import com.helpdesk.ticketstatusservice.dto.StatusUpdateItemResult;
+import com.helpdesk.ticketstatusservice.dto.StatusUpdateRequest;
+import com.helpdesk.ticketstatusservice.dto.TicketResponse;
+import com.helpdesk.ticketstatusservice.event.TicketRegistry;
+import com.helpdesk.ticketstatusservice.model.TicketStatus;
+import com.helpdesk.ticketstatusservice.model.TicketStatusHistory;
+import com.helpdesk.ticketstatusservice.repository.ReactiveStatusHistoryRepository;
+import com.helpdesk.ticketstatusservice.stream.StatusStreamBroker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Reactive counterpart of TicketStatusService: ticket verification, persistence and rollup
+// counters form one non-blocking chain, so no request thread waits on the ticket service or the
+// database. Responses are built by the same mapping code as the servlet mode.
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveTicketStatusService {
+
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final ReactiveStatusHistoryRepository statusHistoryRepository;
+    private final ReactiveTicketServiceClient ticketServiceClient;
+    private final TicketRegistry ticketRegistry;
+    private final TransactionalOperator transactionalOperator;
+    private final StatusStreamBroker statusStreamBroker;
+
+    public Mono<StatusHistoryResponse> updateTicketStatus(StatusUpdateRequest request) {
+        log.info("Updating status for ticket ID: {} to {}", request.getTicketId(), request.getStatus());
+
+        return verifyTicket(request.getTicketId())
+                .then(Mono.defer(() -> save(List.of(toHistory(request)))))
+                .map(saved -> TicketStatusService.mapToResponse(saved.get(0)));
+    }
+
+    public Mono<StatusUpdateBatchResponse> updateTicketStatuses(List<StatusUpdateRequest> requests) {
+        log.info("Updating status for {} tickets in one batch", requests.size());
+
+        Set<Long> ticketIds = requests.stream()
+                .map(StatusUpdateRequest::getTicketId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        return verifyTickets(ticketIds).flatMap(knownTickets -> {
+            StatusUpdateItemResult[] results = new StatusUpdateItemResult[requests.size()];
+            List<TicketStatusHistory> toSave = new ArrayList<>();
+            List<Integer> savedIndexes = new ArrayList<>();
+            for (int i = 0; i < requests.size(); i++) {
+                StatusUpdateRequest request = requests.get(i);
+                if (!knownTickets.containsKey(request.getTicketId())) {
+                    results[i] = new StatusUpdateItemResult(i, request.getTicketId(), false, null,
+                            "Ticket with ID " + request.getTicketId() + " not found");
+                    continue;
+                }
+                toSave.add(toHistory(request));
+                savedIndexes.add(i);
+            }
+
+            return save(toSave).map(saved -> {
+                for (int j = 0; j < saved.size(); j++) {
+                    int index = savedIndexes.get(j);
+                    results[index] = new StatusUpdateItemResult(index, saved.get(j).getTicketId(), true,
+                            TicketStatusService.mapToResponse(saved.get(j)), null);
+                }
+                log.info("Batch status update finished: {} saved, {} failed",
+                        saved.size(), requests.size() - saved.size());
+                return new StatusUpdateBatchResponse(saved.size(), requests.size() - saved.size(), List.of(results));
+            });
+        });
+    }
+
+    public Mono<CurrentStatusResponse> getCurrentStatus(Long ticketId) {
+        log.info("Getting current status for ticket ID: {}", ticketId);
+
+        return verifyTicket(ticketId).flatMap(createdAt -> statusHistoryRepository.findLatestByTicketId(ticketId)
+                .map(latest -> TicketStatusService.toCurrentStatusResponse(ticketId, latest, createdAt))
+                .defaultIfEmpty(TicketStatusService.toCurrentStatusResponse(ticketId, null, createdAt)));
+    }
+
+    public Flux<CurrentStatusResponse> getCurrentStatuses(List<Long> ticketIds) {
+        List<Long> distinctIds = ticketIds.stream().distinct().collect(Collectors.toList());
+        log.info("Getting current status for {} tickets", distinctIds.size());
+
+        return statusHistoryRepository.findLatestByTicketIdIn(distinctIds)
+                .collectMap(TicketStatusHistory::getTicketId, Function.identity())
+                .flatMapMany(latestByTicket -> {
+                    // Tickets without history need their existence and creation time verified, all in one lookup
+                    Set<Long> withoutHistory = distinctIds.stream()
+                            .filter(ticketId -> !latestByTicket.containsKey(ticketId))
+                            .collect(Collectors.toCollection(LinkedHashSet::new));
+                    Mono<Map<Long, LocalDateTime>> knownTickets = withoutHistory.isEmpty()
+                            ? Mono.just(Map.of())
+                            : verifyTickets(withoutHistory);
+                    return knownTickets.flatMapIterable(known -> {
+                        List<CurrentStatusResponse> responses = new ArrayList<>();
+                        for (Long ticketId : distinctIds) {
+                            TicketStatusHistory latest = latestByTicket.get(ticketId);
+                            if (latest != null) {
+                                responses.add(TicketStatusService.toCurrentStatusResponse(ticketId, latest, null));
+                            } else if (known.containsKey(ticketId)) {
+                                responses.add(TicketStatusService.toCurrentStatusResponse(ticketId, null,
+                                        known.get(ticketId)));
+                            } else {
+                                log.warn("Skipping unknown ticket {} in bulk status lookup", ticketId);
+                            }
+                        }
+                        return responses;
+                    });
+                });
+    }
+
+    public Mono<String> getHistoryEtag(Long ticketId) {
+        return statusHistoryRepository.findHistoryVersion(ticketId)
+                .flatMap(version -> version.rowCount() > 0
+                        ? Mono.just(version)
+                        // Without history the response depends only on the ticket, so it must exist
+                        : verifyTicket(ticketId).thenReturn(version))
+                .map(version -> TicketStatusService.historyEtag(ticketId, version));
+    }
+
+    public Flux<StatusHistoryResponse> getStatusHistory(Long ticketId) {
+        return verifyTicket(ticketId).flatMapMany(createdAt -> statusHistoryRepository
+                .findByTicketIdOrderByUpdatedAtDesc(ticketId)
+                .map(TicketStatusService::mapToResponse)
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    log.info("No status history found for ticket {}, returning default OPEN status", ticketId);
+                    StatusHistoryResponse defaultStatus = new StatusHistoryResponse();
+                    defaultStatus.setId(0L); // Indicate this is a default/virtual record
+                    defaultStatus.setTicketId(ticketId);
+                    defaultStatus.setStatus(TicketStatus.OPEN);
+                    defaultStatus.setUpdatedBy("system");
+                    defaultStatus.setUpdatedAt(createdAt); // Use ticket creation time
+                    return defaultStatus;
+                })));
+    }
+
+    public Mono<CurrentStatusPageResponse> getAllTicketsCurrentStatus(String cursor, Integer size, TicketStatus status) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+        if (pageSize < 1) {
+            return Mono.error(new IllegalArgumentException("Page size must be a positive number"));
+        }
+
+        return ticketServiceClient.getTicketPage(cursor, Math.min(pageSize, MAX_PAGE_SIZE))
+                .flatMap(ticketPage -> {
+                    List<TicketResponse> tickets = ticketPage.getItems();
+                    tickets.forEach(ticket -> ticketRegistry.register(ticket.getTicketId(), ticket.getCreatedAt()));
+                    List<Long> ticketIds = tickets.stream()
+                            .map(TicketResponse::getTicketId)
+                            .collect(Collectors.toList());
+
+                    // A status filter is applied within the page, so filtered pages can be shorter than the page size
+                    return statusHistoryRepository.findLatestByTicketIdIn(ticketIds)
+                            .collectMap(TicketStatusHistory::getTicketId, Function.identity())
+                            .map(latestByTicket -> new CurrentStatusPageResponse(tickets.stream()
+                                    .map(ticket -> TicketStatusService.toCurrentStatusResponse(ticket.getTicketId(),
+                                            latestByTicket.get(ticket.getTicketId()), ticket.getCreatedAt()))
+                                    .filter(response -> status == null || response.getCurrentStatus() == status)
+                                    .collect(Collectors.toList()), ticketPage.getNextCursor()));
+                });
+    }
+
+    // History rows and their rollup counters commit together, as in the servlet mode; the changes are
+    // streamed once committed
+    private Mono<List<TicketStatusHistory>> save(List<TicketStatusHistory> histories) {
+        if (histories.isEmpty()) {
+            return Mono.just(List.of());
+        }
+        return Flux.fromIterable(histories)
+                .concatMap(statusHistoryRepository::insert)
+                .concatMap(saved -> statusHistoryRepository
+                        .incrementDailyCount(saved.getUpdatedAt().toLocalDate(), saved.getStatus(), 1)
+                        .thenReturn(saved))
+                .collectList()
+                .as(transactionalOperator::transactional)
+                .doOnNext(saved -> statusStreamBroker.publish(saved.stream()
+                        .map(TicketStatusService::mapToResponse)
+                        .collect(Collectors.toList())));
+    }
+
+    // Returns the ticket's creation time, answering from the local registry when the ticket is known
+    private Mono<LocalDateTime> verifyTicket(Long ticketId) {
+        return Mono.justOrEmpty(ticketRegistry.findCreatedAt(ticketId))
+                .switchIfEmpty(Mono.defer(() -> ticketServiceClient.getTicketById(ticketId)
+                        .map(ticket -> {
+                            ticketRegistry.register(ticket.getTicketId(), ticket.getCreatedAt());
+                            return ticket.getCreatedAt();
+                        })));
+    }
+
+    private Mono<Map<Long, LocalDateTime>> verifyTickets(Set<Long> ticketIds) {
+        Map<Long, LocalDateTime> known = new HashMap<>();
+        List<Long> unknown = new ArrayList<>();
+        for (Long ticketId : ticketIds) {
+            ticketRegistry.findCreatedAt(ticketId).ifPresentOrElse(
+                    createdAt -> known.put(ticketId, createdAt),
+                    () -> unknown.add(ticketId));
+        }
+        if (unknown.isEmpty()) {
+            return Mono.just(known);
+        }
+        return ticketServiceClient.getTicketsByIds(unknown).map(found -> {
+            found.values().forEach(ticket -> {
+                ticketRegistry.register(ticket.getTicketId(), ticket.getCreatedAt());
+                known.put(ticket.getTicketId(), ticket.getCreatedAt());
+            });
+            return known;
+        });
+    }
+
+    private static TicketStatusHistory toHistory(StatusUpdateRequest request) {
+        TicketStatusHistory statusHistory = new TicketStatusHistory();
+        statusHistory.setTicketId(request.getTicketId());
+        statusHistory.setStatus(request.getStatus());
+        statusHistory.setUpdatedBy(request.getUpdatedBy());
+        statusHistory.setUpdatedAt(LocalDateTime.now());
+        return statusHistory;
+    }
+}
@@ -0,0 +1,29 @@
+package com.helpdesk.ticketstatusservice.service;
+
+import com.helpdesk.ticketstatusservice.model.DailyStatusCount;
+import com.helpdesk.ticketstatusservice.model.TicketStatus;
+import com.helpdesk.ticketstatusservice.repository.DailyStatusCountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+// Creates a day's zero counter rows in their own transaction, so that a concurrent insert
+// of the same rows cannot roll back the status update that triggered it
+@Component
+@RequiredArgsConstructor
+public class StatusRollupDayInitializer {
+
+    private final DailyStatusCountRepository dailyStatusCountRepository;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void createDayRows(LocalDate day) {
+        for (TicketStatus status : TicketStatus.values()) {
+            if (!dailyStatusCountRepository.existsById(new DailyStatusCount.Key(day, status))) {
+                dailyStatusCountRepository.save(new DailyStatusCount(day, status, 0L));
+            }
+        }
+    }
+}
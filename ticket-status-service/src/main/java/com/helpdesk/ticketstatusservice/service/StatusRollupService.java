@@ -0,0 +1,119 @@
+package com.helpdesk.ticketstatusservice.service;
+
+import com.helpdesk.ticketstatusservice.dto.StatusSummaryResponse;
+import com.helpdesk.ticketstatusservice.model.DailyStatusCount;
+import com.helpdesk.ticketstatusservice.model.TicketStatus;
+import com.helpdesk.ticketstatusservice.model.TicketStatusHistory;
+import com.helpdesk.ticketstatusservice.repository.DailyStatusCountRepository;
+import com.helpdesk.ticketstatusservice.repository.StatusHistoryStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StatusRollupService {
+
+    private static final long MAX_RANGE_DAYS = 366;
+
+    private final DailyStatusCountRepository dailyStatusCountRepository;
+    private final StatusHistoryStore statusHistoryStore;
+    private final StatusRollupDayInitializer dayInitializer;
+
+    // Must run in the transaction that saved the history rows, so counters and rows commit together
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(List<TicketStatusHistory> savedHistory) {
+        // Sorted by day and status so concurrent writers lock counter rows in the same order
+        Map<LocalDate, Map<TicketStatus, Long>> deltas = savedHistory.stream()
+                .collect(Collectors.groupingBy(history -> history.getUpdatedAt().toLocalDate(), TreeMap::new,
+                        Collectors.groupingBy(TicketStatusHistory::getStatus,
+                                () -> new EnumMap<>(TicketStatus.class), Collectors.counting())));
+
+        deltas.forEach((day, byStatus) -> byStatus.forEach((status, delta) -> increment(day, status, delta)));
+    }
+
+    public List<StatusSummaryResponse> getSummaries(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+
+        Map<LocalDate, List<DailyStatusCount>> countsByDay = dailyStatusCountRepository.findByDayBetween(from, to)
+                .stream()
+                .collect(Collectors.groupingBy(DailyStatusCount::getDay));
+
+        List<StatusSummaryResponse> summaries = new ArrayList<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            Map<String, Long> statusCounts = new HashMap<>();
+            for (TicketStatus status : TicketStatus.values()) {
+                statusCounts.put(status.name(), 0L);
+            }
+            long total = 0;
+            for (DailyStatusCount count : countsByDay.getOrDefault(day, List.of())) {
+                statusCounts.put(count.getStatus().name(), count.getCount());
+                total += count.getCount();
+            }
+            summaries.add(new StatusSummaryResponse(day, statusCounts, total));
+        }
+        return summaries;
+    }
+
+    // Backfill: recomputes the counters of each day in the range from the status history.
+    // Updates saved while a day is being rebuilt may be counted twice or not at all, so run it
+    // for past days or during quiet periods.
+    @Transactional
+    public List<StatusSummaryResponse> rebuild(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        log.info("Rebuilding daily status rollups from {} to {}", from, to);
+
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            Map<TicketStatus, Long> counts = new EnumMap<>(TicketStatus.class);
+            for (Object[] row : statusHistoryStore.countByStatusBetween(day.atStartOfDay(),
+                    day.plusDays(1).atStartOfDay())) {
+                counts.put((TicketStatus) row[0], (Long) row[1]);
+            }
+
+            dailyStatusCountRepository.deleteByDay(day);
+            dailyStatusCountRepository.flush();
+            List<DailyStatusCount> rows = new ArrayList<>();
+            for (TicketStatus status : TicketStatus.values()) {
+                rows.add(new DailyStatusCount(day, status, counts.getOrDefault(status, 0L)));
+            }
+            dailyStatusCountRepository.saveAll(rows);
+        }
+        return getSummaries(from, to);
+    }
+
+    private void increment(LocalDate day, TicketStatus status, long delta) {
+        if (dailyStatusCountRepository.increment(day, status, delta) > 0) {
+            return;
+        }
+        // First update of the day: create its counter rows, then count again
+        try {
+            dayInitializer.createDayRows(day);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Counter rows for {} were created concurrently", day);
+        }
+        dailyStatusCountRepository.increment(day, status, delta);
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("'from' date must not be after 'to' date");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("Date range must not exceed " + MAX_RANGE_DAYS + " days");
+        }
+    }
+}
@@ -1,39 +1,68 @@
 package com.helpdesk.ticketstatusservice.service;
 
 import com.helpdesk.ticketstatusservice.client.TicketServiceClient;
+import com.helpdesk.ticketstatusservice.dto.CurrentStatusPageResponse;
 import com.helpdesk.ticketstatusservice.dto.CurrentStatusResponse;
 import com.helpdesk.ticketstatusservice.dto.StatusHistoryResponse;
 import com.helpdesk.ticketstatusservice.dto.StatusSummaryResponse;
+import com.helpdesk.ticketstatusservice.dto.StatusUpdateBatchResponse;
+import com.helpdesk.ticketstatusservice.dto.StatusUpdateItemResult;
 import com.helpdesk.ticketstatusservice.dto.StatusUpdateRequest;
+import com.helpdesk.ticketstatusservice.dto.TicketPageResponse;
 import com.helpdesk.ticketstatusservice.dto.TicketResponse;
+import com.helpdesk.ticketstatusservice.event.TicketRegistry;
 import com.helpdesk.ticketstatusservice.model.TicketStatus;
 import com.helpdesk.ticketstatusservice.model.TicketStatusHistory;
-import com.helpdesk.ticketstatusservice.repository.TicketStatusHistoryRepository;
+import com.helpdesk.ticketstatusservice.repository.HistoryVersion;
+import com.helpdesk.ticketstatusservice.repository.StatusHistoryStore;
+import com.helpdesk.ticketstatusservice.stream.StatusStreamBroker;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class TicketStatusService {
 
-    private final TicketStatusHistoryRepository statusHistoryRepository;
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+
+    private final StatusHistoryStore statusHistoryStore;
     private final TicketServiceClient ticketServiceClient;
+    private final TicketRegistry ticketRegistry;
+    private final StatusRollupService statusRollupService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final StatusStreamBroker statusStreamBroker;
 
     public StatusHistoryResponse updateTicketStatus(StatusUpdateRequest request) {
         log.info("Updating status for ticket ID: {} to {}", request.getTicketId(), request.getStatus());
 
-        // 1. Verify ticket exists by calling ticket service
-        TicketResponse ticket = ticketServiceClient.getTicketById(request.getTicketId());
-        log.info("Ticket verified: {} - {}", ticket.getTicketId(), ticket.getEmployeeName());
+        // 1. Verify ticket exists (local registry first, ticket service as fallback)
+        verifyTicket(request.getTicketId());
+        log.info("Ticket verified: {}", request.getTicketId());
 
         // 2. Create status history entry
         TicketStatusHistory statusHistory = new TicketStatusHistory();
@@ -41,49 +70,122 @@ public class TicketStatusService {
         statusHistory.setStatus(request.getStatus());
         statusHistory.setUpdatedBy(request.getUpdatedBy());
 
-        // 3. Save status update
-        TicketStatusHistory savedHistory = statusHistoryRepository.save(statusHistory);
+        // 3. Save status update together with its daily rollup counter
+        TicketStatusHistory savedHistory = save(List.of(statusHistory)).get(0);
         log.info("Status updated successfully for ticket {}", request.getTicketId());
 
-        return mapToResponse(savedHistory);
+        StatusHistoryResponse response = mapToResponse(savedHistory);
+        statusStreamBroker.publish(List.of(response));
+        return response;
+    }
+
+    public StatusUpdateBatchResponse updateTicketStatuses(List<StatusUpdateRequest> requests) {
+        log.info("Updating status for {} tickets in one batch", requests.size());
+
+        // 1. Verify all referenced tickets in one pass
+        Set<Long> ticketIds = requests.stream()
+                .map(StatusUpdateRequest::getTicketId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<Long, LocalDateTime> knownTickets = verifyTickets(ticketIds);
+
+        // 2. Build history rows for the updates whose ticket exists
+        StatusUpdateItemResult[] results = new StatusUpdateItemResult[requests.size()];
+        List<TicketStatusHistory> toSave = new ArrayList<>();
+        List<Integer> savedIndexes = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            StatusUpdateRequest request = requests.get(i);
+            if (!knownTickets.containsKey(request.getTicketId())) {
+                results[i] = new StatusUpdateItemResult(i, request.getTicketId(), false, null,
+                        "Ticket with ID " + request.getTicketId() + " not found");
+                continue;
+            }
+            TicketStatusHistory statusHistory = new TicketStatusHistory();
+            statusHistory.setTicketId(request.getTicketId());
+            statusHistory.setStatus(request.getStatus());
+            statusHistory.setUpdatedBy(request.getUpdatedBy());
+            toSave.add(statusHistory);
+            savedIndexes.add(i);
+        }
+
+        // 3. Save together with the rollup counters; sequence-generated IDs let Hibernate use JDBC batch
+        // inserts, and the event log appends the whole batch with a single sync
+        List<TicketStatusHistory> saved = save(toSave);
+        List<StatusHistoryResponse> savedResponses = new ArrayList<>(saved.size());
+        for (int j = 0; j < saved.size(); j++) {
+            int index = savedIndexes.get(j);
+            StatusHistoryResponse response = mapToResponse(saved.get(j));
+            savedResponses.add(response);
+            results[index] = new StatusUpdateItemResult(index, saved.get(j).getTicketId(), true, response, null);
+        }
+        statusStreamBroker.publish(savedResponses);
+
+        log.info("Batch status update finished: {} saved, {} failed", saved.size(), requests.size() - saved.size());
+        return new StatusUpdateBatchResponse(saved.size(), requests.size() - saved.size(), List.of(results));
     }
 
     public CurrentStatusResponse getCurrentStatus(Long ticketId) {
         log.info("Getting current status for ticket ID: {}", ticketId);
 
         // Verify ticket exists before returning status
-        TicketResponse ticket = ticketServiceClient.getTicketById(ticketId);
-
-        // Get the most recent status for this ticket
-        List<TicketStatusHistory> history = statusHistoryRepository.findByTicketIdOrderByUpdatedAtDesc(ticketId);
+        LocalDateTime ticketCreatedAt = verifyTicket(ticketId);
 
-        CurrentStatusResponse response = new CurrentStatusResponse();
-        response.setTicketId(ticketId);
+        // Get the most recent status for this ticket with a single-row lookup
+        TicketStatusHistory latest = statusHistoryStore
+                .findFirstByTicketIdOrderByUpdatedAtDescIdDesc(ticketId)
+                .orElse(null);
 
-        if (history.isEmpty()) {
-            // No status history exists, return default "OPEN" status
+        if (latest == null) {
             log.info("No status history found for ticket {}, returning default OPEN status", ticketId);
-            response.setCurrentStatus(TicketStatus.OPEN);
-            response.setLastUpdatedBy("system");
-            response.setLastUpdatedAt(ticket.getCreatedAt()); // Use ticket creation time
-            response.setDefault(true); // Indicate this is a default status
-        } else {
-            // Return the most recent (current) status
-            TicketStatusHistory currentStatus = history.get(0); // First item is most recent due to DESC order
-            response.setCurrentStatus(currentStatus.getStatus());
-            response.setLastUpdatedBy(currentStatus.getUpdatedBy());
-            response.setLastUpdatedAt(currentStatus.getUpdatedAt());
-            response.setDefault(false); // This is an actual status record
         }
+        return toCurrentStatusResponse(ticketId, latest, ticketCreatedAt);
+    }
 
-        return response;
+    public List<CurrentStatusResponse> getCurrentStatuses(List<Long> ticketIds) {
+        List<Long> distinctIds = ticketIds.stream().distinct().collect(Collectors.toList());
+        log.info("Getting current status for {} tickets", distinctIds.size());
+
+        // Resolve every ticket that has history with one set-based query
+        Map<Long, TicketStatusHistory> latestByTicket = statusHistoryStore
+                .findLatestByTicketIdIn(distinctIds).stream()
+                .collect(Collectors.toMap(TicketStatusHistory::getTicketId, h -> h));
+
+        // Tickets without history need their existence and creation time verified, all in one lookup
+        Set<Long> withoutHistory = distinctIds.stream()
+                .filter(ticketId -> !latestByTicket.containsKey(ticketId))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<Long, LocalDateTime> knownTickets = withoutHistory.isEmpty() ? Map.of() : verifyTickets(withoutHistory);
+
+        List<CurrentStatusResponse> responses = new ArrayList<>();
+        for (Long ticketId : distinctIds) {
+            TicketStatusHistory latest = latestByTicket.get(ticketId);
+            if (latest != null) {
+                responses.add(toCurrentStatusResponse(ticketId, latest, null));
+            } else if (knownTickets.containsKey(ticketId)) {
+                responses.add(toCurrentStatusResponse(ticketId, null, knownTickets.get(ticketId)));
+            } else {
+                log.warn("Skipping unknown ticket {} in bulk status lookup", ticketId);
+            }
+        }
+        return responses;
+    }
+
+    // Strong validator shared by a ticket's current status and history. Rows are only ever appended, so
+    // the row count and the highest row ID change with every update; the count is part of it because
+    // pooled IDs handed out by different instances do not follow insertion order.
+    public String getHistoryEtag(Long ticketId) {
+        HistoryVersion version = statusHistoryStore.findHistoryVersion(ticketId);
+        if (version.rowCount() == 0) {
+            // Without history the response depends only on the ticket, so it must exist
+            verifyTicket(ticketId);
+        }
+        return historyEtag(ticketId, version);
     }
 
     public List<StatusHistoryResponse> getStatusHistory(Long ticketId) {
         // Verify ticket exists before returning history
-        TicketResponse ticket = ticketServiceClient.getTicketById(ticketId);
+        LocalDateTime ticketCreatedAt = verifyTicket(ticketId);
 
-        List<TicketStatusHistory> history = statusHistoryRepository.findByTicketIdOrderByUpdatedAtDesc(ticketId);
+        List<TicketStatusHistory> history = statusHistoryStore.findByTicketIdOrderByUpdatedAtDesc(ticketId);
 
         // If no status history exists, create a default "OPEN" status response
         if (history.isEmpty()) {
@@ -93,82 +195,175 @@ public class TicketStatusService {
             defaultStatus.setTicketId(ticketId);
             defaultStatus.setStatus(TicketStatus.OPEN);
             defaultStatus.setUpdatedBy("system");
-            defaultStatus.setUpdatedAt(ticket.getCreatedAt()); // Use ticket creation time
+            defaultStatus.setUpdatedAt(ticketCreatedAt); // Use ticket creation time
 
             return List.of(defaultStatus);
         }
 
         return history.stream()
-                .map(this::mapToResponse)
+                .map(TicketStatusService::mapToResponse)
                 .collect(Collectors.toList());
     }
 
     public StatusSummaryResponse getStatusSummary(LocalDate date) {
-        LocalDateTime startOfDay = date.atStartOfDay();
-        LocalDateTime endOfDay = date.plusDays(1).atStartOfDay();
-
-        List<TicketStatusHistory> statusUpdates = statusHistoryRepository.findByUpdatedAtBetween(startOfDay, endOfDay);
-
-        // Count status updates by status type
-        Map<String, Long> statusCounts = new HashMap<>();
-        for (TicketStatus status : TicketStatus.values()) {
-            statusCounts.put(status.name(), 0L);
-        }
+        // Answered from the daily rollup counters instead of loading the day's history rows
+        return statusRollupService.getSummaries(date, date).get(0);
+    }
 
-        for (TicketStatusHistory history : statusUpdates) {
-            String statusName = history.getStatus().name();
-            statusCounts.put(statusName, statusCounts.get(statusName) + 1);
-        }
+    public List<StatusSummaryResponse> getStatusSummaries(LocalDate from, LocalDate to) {
+        return statusRollupService.getSummaries(from, to);
+    }
 
-        long totalTickets = statusUpdates.size();
-        return new StatusSummaryResponse(date, statusCounts, totalTickets);
+    public List<StatusSummaryResponse> rebuildStatusSummaries(LocalDate from, LocalDate to) {
+        return statusRollupService.rebuild(from, to);
     }
 
-    public List<CurrentStatusResponse> getAllTicketsCurrentStatus() {
-        log.info("Getting current status for all tickets");
+    public CurrentStatusPageResponse getAllTicketsCurrentStatus(String cursor, Integer size, TicketStatus status) {
+        log.info("Getting current status for a page of tickets");
+
+        // The page cursor is the ticket service's keyset cursor, passed through unchanged
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be a positive number");
+        }
+        pageSize = Math.min(pageSize, MAX_PAGE_SIZE);
 
         try {
-            // Get all tickets from ticket service
-            List<TicketResponse> allTickets = ticketServiceClient.getAllTickets();
-            log.info("Found {} tickets", allTickets.size());
+            TicketPageResponse ticketPage = ticketServiceClient.getTicketPage(cursor, pageSize);
+            List<TicketResponse> tickets = ticketPage.getItems();
+            log.info("Found {} tickets in page", tickets.size());
+            tickets.forEach(ticket -> ticketRegistry.register(ticket.getTicketId(), ticket.getCreatedAt()));
+
+            List<Long> ticketIds = tickets.stream()
+                    .map(TicketResponse::getTicketId)
+                    .collect(Collectors.toList());
 
-            return allTickets.stream()
-                    .map(ticket -> getCurrentStatusForTicketResponse(ticket))
+            // Latest status of the whole page in one query instead of one query per ticket
+            Map<Long, TicketStatusHistory> latestByTicket = ticketIds.isEmpty()
+                    ? Map.of()
+                    : statusHistoryStore.findLatestByTicketIdIn(ticketIds).stream()
+                            .collect(Collectors.toMap(TicketStatusHistory::getTicketId, h -> h));
+
+            // A status filter is applied within the page, so filtered pages can be shorter than the page size
+            List<CurrentStatusResponse> items = tickets.stream()
+                    .map(ticket -> toCurrentStatusResponse(ticket.getTicketId(),
+                            latestByTicket.get(ticket.getTicketId()), ticket.getCreatedAt()))
+                    .filter(response -> status == null || response.getCurrentStatus() == status)
                     .collect(Collectors.toList());
 
+            return new CurrentStatusPageResponse(items, ticketPage.getNextCursor());
+
+        } catch (IllegalArgumentException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error getting all tickets current status: {}", e.getMessage());
             throw new RuntimeException("Unable to retrieve tickets status");
         }
     }
 
-    private CurrentStatusResponse getCurrentStatusForTicketResponse(TicketResponse ticket) {
-        // Get the most recent status for this ticket
-        List<TicketStatusHistory> history = statusHistoryRepository
-                .findByTicketIdOrderByUpdatedAtDesc(ticket.getTicketId());
+    @Transactional(readOnly = true)
+    public long exportStatusHistory(LocalDateTime updatedFrom, OutputStream outputStream) throws IOException {
+        log.info("Exporting status history updated from {}", updatedFrom);
+
+        ObjectWriter writer = objectMapper.writerFor(StatusHistoryResponse.class);
+        OutputStream out = new BufferedOutputStream(outputStream, EXPORT_BUFFER_SIZE);
+        long count = 0;
+
+        try (Stream<TicketStatusHistory> history = statusHistoryStore.streamForExport(updatedFrom)) {
+            Iterator<TicketStatusHistory> iterator = history.iterator();
+            while (iterator.hasNext()) {
+                TicketStatusHistory row = iterator.next();
+                out.write(writer.writeValueAsBytes(mapToResponse(row)));
+                out.write('\n');
+                count++;
+            }
+        }
+        out.flush();
+
+        log.info("Exported {} status history rows", count);
+        return count;
+    }
+
+    // Saves history rows and their daily rollup counters. The table commits both in one transaction.
+    // The event log cannot roll back, so its rows are stamped and counted first and appended once the
+    // counters have committed: a failed append leaves a count too high, which a rollup rebuild
+    // corrects, but never a row that was not counted.
+    private List<TicketStatusHistory> save(List<TicketStatusHistory> history) {
+        if (statusHistoryStore.joinsTransactions()) {
+            return transactionTemplate.execute(tx -> {
+                List<TicketStatusHistory> saved = statusHistoryStore.saveAll(history);
+                statusRollupService.recordAll(saved);
+                return saved;
+            });
+        }
+        LocalDateTime now = LocalDateTime.now();
+        history.forEach(row -> row.setUpdatedAt(now));
+        transactionTemplate.executeWithoutResult(tx -> statusRollupService.recordAll(history));
+        return statusHistoryStore.saveAll(history);
+    }
+
+    // Returns the ticket's creation time, answering from the local registry when the ticket is known
+    private LocalDateTime verifyTicket(Long ticketId) {
+        Optional<LocalDateTime> registered = ticketRegistry.findCreatedAt(ticketId);
+        if (registered.isPresent()) {
+            return registered.get();
+        }
+        TicketResponse ticket = ticketServiceClient.getTicketById(ticketId);
+        ticketRegistry.register(ticket.getTicketId(), ticket.getCreatedAt());
+        return ticket.getCreatedAt();
+    }
+
+    // Creation time of every ticket that exists; registry first, one ticket service lookup for the rest
+    private Map<Long, LocalDateTime> verifyTickets(Set<Long> ticketIds) {
+        Map<Long, LocalDateTime> known = new HashMap<>();
+        List<Long> unknown = new ArrayList<>();
+        for (Long ticketId : ticketIds) {
+            Optional<LocalDateTime> registered = ticketRegistry.findCreatedAt(ticketId);
+            if (registered.isPresent()) {
+                known.put(ticketId, registered.get());
+            } else {
+                unknown.add(ticketId);
+            }
+        }
+
+        if (!unknown.isEmpty()) {
+            ticketServiceClient.getTicketsByIds(unknown).values().forEach(ticket -> {
+                ticketRegistry.register(ticket.getTicketId(), ticket.getCreatedAt());
+                known.put(ticket.getTicketId(), ticket.getCreatedAt());
+            });
+        }
+        return known;
+    }
 
+    // Package-private and static so ReactiveTicketStatusService builds identical responses
+    static CurrentStatusResponse toCurrentStatusResponse(Long ticketId, TicketStatusHistory latest,
+            LocalDateTime ticketCreatedAt) {
         CurrentStatusResponse response = new CurrentStatusResponse();
-        response.setTicketId(ticket.getTicketId());
+        response.setTicketId(ticketId);
 
-        if (history.isEmpty()) {
+        if (latest == null) {
             // No status history exists, return default "OPEN" status
             response.setCurrentStatus(TicketStatus.OPEN);
             response.setLastUpdatedBy("system");
-            response.setLastUpdatedAt(ticket.getCreatedAt()); // Use ticket creation time
+            response.setLastUpdatedAt(ticketCreatedAt); // Use ticket creation time
             response.setDefault(true); // Indicate this is a default status
         } else {
             // Return the most recent (current) status
-            TicketStatusHistory currentStatus = history.get(0); // First item is most recent due to DESC order
-            response.setCurrentStatus(currentStatus.getStatus());
-            response.setLastUpdatedBy(currentStatus.getUpdatedBy());
-            response.setLastUpdatedAt(currentStatus.getUpdatedAt());
+            response.setCurrentStatus(latest.getStatus());
+            response.setLastUpdatedBy(latest.getUpdatedBy());
+            response.setLastUpdatedAt(latest.getUpdatedAt());
             response.setDefault(false); // This is an actual status record
         }
 
         return response;
     }
 
-    private StatusHistoryResponse mapToResponse(TicketStatusHistory history) {
+    static String historyEtag(Long ticketId, HistoryVersion version) {
+        long latestId = version.latestId() == null ? 0 : version.latestId();
+        return "\"status-" + ticketId + "-" + version.rowCount() + "-" + latestId + "\"";
+    }
+
+    static StatusHistoryResponse mapToResponse(TicketStatusHistory history) {
         StatusHistoryResponse response = new StatusHistoryResponse();
         response.setId(history.getId());
         response.setTicketId(history.getTicketId());
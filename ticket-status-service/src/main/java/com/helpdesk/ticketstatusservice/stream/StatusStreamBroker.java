@@ -0,0 +1,365 @@
+package com.helpdesk.ticketstatusservice.stream;
+
+import com.helpdesk.ticketstatusservice.dto.StatusHistoryResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Exceptions;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Fans committed status changes out to the subscribers of GET /status/stream. Every change gets an
+// event ID of the form <instance>-<sequence>, and the latest changes are kept so a reconnecting client
+// can resume from its Last-Event-ID. Publishing never waits on a subscriber: each one has a bounded
+// buffer drained by its own delivery task, and when that buffer is full the subscriber either loses
+// the event or is disconnected, depending on status-stream.overflow. Delivery tasks share a fixed pool
+// of status-stream.delivery-threads; a subscriber whose task the pool cannot take is disconnected.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StatusStreamBroker {
+
+    public enum OverflowPolicy {
+        DROP, DISCONNECT
+    }
+
+    private static final StatusStreamEvent HEARTBEAT =
+            new StatusStreamEvent(0, null, StatusStreamEvent.HEARTBEAT, null);
+    private static final Map<String, String> RESYNC_PAYLOAD =
+            Map.of("message", "Missed status changes are no longer available, reload the current status");
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${status-stream.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${status-stream.replay-size:1024}")
+    private int replaySize;
+
+    @Value("${status-stream.max-subscribers:1000}")
+    private int maxSubscribers;
+
+    @Value("${status-stream.overflow:DROP}")
+    private OverflowPolicy overflowPolicy;
+
+    @Value("${status-stream.heartbeat-interval:15s}")
+    private Duration heartbeatInterval;
+
+    @Value("${status-stream.connection-timeout:30m}")
+    private Duration connectionTimeout;
+
+    @Value("${status-stream.delivery-threads:32}")
+    private int deliveryThreads;
+
+    // Sequences restart with the process, so IDs handed out by an earlier run are never resumed from
+    private final String instanceId = Long.toString(System.currentTimeMillis(), 36);
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong publishedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong disconnectedCount = new AtomicLong();
+
+    // Guarded by lock, not synchronized, so a virtual thread waiting for it unmounts from its carrier;
+    // recent is a ring of the last replaySize events, indexed by sequence
+    private final ReentrantLock lock = new ReentrantLock();
+    private long sequence;
+    private StatusStreamEvent[] recent;
+
+    private ExecutorService deliveryExecutor;
+    private ScheduledExecutorService heartbeatExecutor;
+
+    @PostConstruct
+    void start() {
+        recent = new StatusStreamEvent[replaySize];
+        // A subscriber has at most one delivery task queued, so a queue of max-subscribers only fills when
+        // closes pile up behind writes that block; idle threads time out
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(deliveryThreads, deliveryThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(maxSubscribers), daemonThreads("status-stream-"));
+        executor.allowCoreThreadTimeOut(true);
+        deliveryExecutor = executor;
+        // Heartbeats keep idle connections open through proxies and reveal clients that went away
+        heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(daemonThreads("status-stream-heartbeat-"));
+        heartbeatExecutor.scheduleAtFixedRate(() -> subscribers.forEach(subscriber -> subscriber.offer(HEARTBEAT)),
+                heartbeatInterval.toMillis(), heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+
+        Gauge.builder("status.stream.subscribers", subscribers, Set::size)
+                .description("Open status stream connections")
+                .register(meterRegistry);
+        FunctionCounter.builder("status.stream.events.published", publishedCount, AtomicLong::get)
+                .description("Status changes published to the status stream")
+                .register(meterRegistry);
+        FunctionCounter.builder("status.stream.events.dropped", droppedCount, AtomicLong::get)
+                .description("Status stream events dropped because a subscriber's buffer was full")
+                .register(meterRegistry);
+        FunctionCounter.builder("status.stream.subscribers.disconnected", disconnectedCount, AtomicLong::get)
+                .description("Status stream subscribers disconnected for falling behind")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() {
+        heartbeatExecutor.shutdownNow();
+        new ArrayList<>(subscribers).forEach(Subscriber::close);
+        deliveryExecutor.shutdown();
+    }
+
+    // Called once the changes are committed
+    public void publish(List<StatusHistoryResponse> changes) {
+        lock.lock();
+        try {
+            for (StatusHistoryResponse change : changes) {
+                long eventSequence = ++sequence;
+                StatusStreamEvent event = new StatusStreamEvent(eventSequence, instanceId + "-" + eventSequence,
+                        StatusStreamEvent.STATUS, change);
+                recent[(int) (eventSequence % replaySize)] = event;
+                for (Subscriber subscriber : subscribers) {
+                    if (subscriber.accepts(change)) {
+                        subscriber.offer(event);
+                    }
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        publishedCount.addAndGet(changes.size());
+    }
+
+    // Servlet mode: events are written to the emitter by the subscriber's delivery task
+    public SseEmitter openEmitter(Set<Long> ticketIds, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(connectionTimeout.toMillis());
+        Subscriber subscriber = subscribe(ticketIds, lastEventId, new StatusStreamSink() {
+            @Override
+            public void send(StatusStreamEvent event) throws IOException {
+                if (event == HEARTBEAT) {
+                    emitter.send(SseEmitter.event().comment(StatusStreamEvent.HEARTBEAT));
+                } else {
+                    emitter.send(SseEmitter.event().id(event.id()).name(event.name())
+                            .data(payload(event), MediaType.APPLICATION_JSON));
+                }
+            }
+
+            @Override
+            public void close() {
+                emitter.complete();
+            }
+        });
+        emitter.onCompletion(subscriber::close);
+        emitter.onError(ex -> subscriber.close());
+        emitter.onTimeout(() -> {
+            // Clients reconnect with their Last-Event-ID and resume where they left off
+            subscriber.close();
+            emitter.complete();
+        });
+        return emitter;
+    }
+
+    // Reactive mode: Netty writes only as fast as the client reads, so the bounded buffer and the
+    // overflow policy are applied with onBackpressureBuffer
+    public Flux<ServerSentEvent<Object>> openFlux(Set<Long> ticketIds, String lastEventId) {
+        Flux<ServerSentEvent<Object>> events = Flux.create(sink -> {
+            Subscriber subscriber = subscribe(ticketIds, lastEventId, new StatusStreamSink() {
+                @Override
+                public void send(StatusStreamEvent event) {
+                    sink.next(event == HEARTBEAT
+                            ? ServerSentEvent.builder().comment(StatusStreamEvent.HEARTBEAT).build()
+                            : ServerSentEvent.builder(payload(event)).id(event.id()).event(event.name()).build());
+                }
+
+                @Override
+                public void close() {
+                    sink.complete();
+                }
+            });
+            sink.onDispose(subscriber::close);
+        });
+
+        return events
+                .onBackpressureBuffer(bufferSize, dropped -> {
+                    if (overflowPolicy == OverflowPolicy.DROP) {
+                        droppedCount.incrementAndGet();
+                    }
+                }, overflowPolicy == OverflowPolicy.DROP
+                        ? BufferOverflowStrategy.DROP_LATEST
+                        : BufferOverflowStrategy.ERROR)
+                .onErrorResume(Exceptions::isOverflow, ex -> {
+                    disconnectedCount.incrementAndGet();
+                    log.warn("Disconnecting status stream subscriber that fell {} events behind", bufferSize);
+                    return Flux.empty();
+                });
+    }
+
+    private Subscriber subscribe(Set<Long> ticketIds, String lastEventId, StatusStreamSink sink) {
+        Subscriber subscriber = new Subscriber(ticketIds == null ? Set.of() : Set.copyOf(ticketIds), sink);
+        lock.lock();
+        try {
+            if (subscribers.size() >= maxSubscribers) {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many status stream subscribers");
+            }
+            if (lastEventId != null) {
+                List<StatusStreamEvent> missed = missedSince(lastEventId, subscriber);
+                if (missed == null || missed.size() > bufferSize) {
+                    // Too far behind to replay: the client has to reload the current status instead
+                    subscriber.offer(new StatusStreamEvent(sequence, instanceId + "-" + sequence,
+                            StatusStreamEvent.RESYNC, null));
+                } else {
+                    missed.forEach(subscriber::offer);
+                }
+            }
+            subscribers.add(subscriber);
+        } finally {
+            lock.unlock();
+        }
+        log.info("Status stream subscriber connected (ticket filter: {}, resuming from: {})",
+                ticketIds == null ? "none" : ticketIds, lastEventId);
+        return subscriber;
+    }
+
+    // Retained events after lastEventId that the subscriber wants, or null when some are no longer retained
+    private List<StatusStreamEvent> missedSince(String lastEventId, Subscriber subscriber) {
+        int separator = lastEventId.lastIndexOf('-');
+        if (separator < 0 || !lastEventId.substring(0, separator).equals(instanceId)) {
+            return null;
+        }
+        long lastSequence;
+        try {
+            lastSequence = Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (lastSequence < 0 || lastSequence > sequence || lastSequence < sequence - replaySize) {
+            return null;
+        }
+
+        List<StatusStreamEvent> missed = new ArrayList<>();
+        for (long missedSequence = lastSequence + 1; missedSequence <= sequence; missedSequence++) {
+            StatusStreamEvent event = recent[(int) (missedSequence % replaySize)];
+            if (subscriber.accepts(event.change())) {
+                missed.add(event);
+            }
+        }
+        return missed;
+    }
+
+    private static Object payload(StatusStreamEvent event) {
+        return event.change() != null ? event.change() : RESYNC_PAYLOAD;
+    }
+
+    private static CustomizableThreadFactory daemonThreads(String prefix) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(prefix);
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    private final class Subscriber {
+
+        private final Set<Long> ticketIds; // empty for all tickets
+        private final StatusStreamSink sink;
+        private final BlockingQueue<StatusStreamEvent> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean deliveryScheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(Set<Long> ticketIds, StatusStreamSink sink) {
+            this.ticketIds = ticketIds;
+            this.sink = sink;
+        }
+
+        boolean accepts(StatusHistoryResponse change) {
+            return ticketIds.isEmpty() || ticketIds.contains(change.getTicketId());
+        }
+
+        void offer(StatusStreamEvent event) {
+            if (closed.get()) {
+                return;
+            }
+            if (!buffer.offer(event)) {
+                if (event == HEARTBEAT) {
+                    return; // a full buffer already shows the connection is busy
+                }
+                if (overflowPolicy == OverflowPolicy.DISCONNECT) {
+                    disconnectedCount.incrementAndGet();
+                    log.warn("Disconnecting status stream subscriber that fell {} events behind", bufferSize);
+                    close();
+                } else {
+                    droppedCount.incrementAndGet();
+                }
+                return;
+            }
+            if (deliveryScheduled.compareAndSet(false, true)) {
+                scheduleDelivery();
+            }
+        }
+
+        private void scheduleDelivery() {
+            try {
+                deliveryExecutor.execute(this::deliver);
+            } catch (RejectedExecutionException e) {
+                // Every delivery thread is busy and the queue is full: handled like a subscriber that fell behind
+                disconnectedCount.incrementAndGet();
+                log.warn("Disconnecting status stream subscriber, no delivery thread available");
+                close();
+            }
+        }
+
+        private void deliver() {
+            try {
+                StatusStreamEvent event;
+                while (!closed.get() && (event = buffer.poll()) != null) {
+                    sink.send(event);
+                }
+            } catch (IOException | RuntimeException ex) {
+                log.debug("Status stream subscriber went away: {}", ex.getMessage());
+                close();
+                return;
+            }
+            deliveryScheduled.set(false);
+            // Picks up an event offered after the last poll but before the flag was cleared
+            if (!closed.get() && !buffer.isEmpty() && deliveryScheduled.compareAndSet(false, true)) {
+                scheduleDelivery();
+            }
+        }
+
+        // Completing the connection can block behind a write in progress, so it never runs on the publisher
+        void close() {
+            if (closed.compareAndSet(false, true)) {
+                subscribers.remove(this);
+                buffer.clear();
+                try {
+                    deliveryExecutor.execute(sink::close);
+                } catch (RejectedExecutionException e) {
+                    // Still off the publisher; the heartbeat thread only ever offers to buffers
+                    heartbeatExecutor.execute(sink::close);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.helpdesk.ticketstatusservice.stream;
+
+import com.helpdesk.ticketstatusservice.dto.StatusHistoryResponse;
+
+// One event of GET /status/stream. change is null for the events that carry no status change.
+record StatusStreamEvent(long sequence, String id, String name, StatusHistoryResponse change) {
+
+    static final String STATUS = "status";
+    static final String RESYNC = "resync";
+    static final String HEARTBEAT = "heartbeat";
+}
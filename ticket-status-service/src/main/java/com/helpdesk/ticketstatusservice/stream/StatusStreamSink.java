@@ -0,0 +1,11 @@
+package com.helpdesk.ticketstatusservice.stream;
+
+import java.io.IOException;
+
+// Connection of one subscriber; called from a single delivery thread at a time
+interface StatusStreamSink {
+
+    void send(StatusStreamEvent event) throws IOException;
+
+    void close();
+}
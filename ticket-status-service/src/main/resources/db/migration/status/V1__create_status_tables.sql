@@ -0,0 +1,22 @@
+CREATE SEQUENCE ticket_status_history_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE ticket_status_history (
+    id         BIGINT       NOT NULL,
+    ticket_id  BIGINT       NOT NULL,
+    status     VARCHAR(32)  NOT NULL,
+    updated_by VARCHAR(255) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_ticket_status_history PRIMARY KEY (id)
+);
+
+-- findByTicketIdOrderByUpdatedAtDesc, the latest-status lookups and their NOT EXISTS probe
+CREATE INDEX idx_status_history_ticket_updated ON ticket_status_history (ticket_id, updated_at, id);
+-- findByUpdatedAtBetween, the rollup rebuild and the NDJSON export lower bound
+CREATE INDEX idx_status_history_updated_at ON ticket_status_history (updated_at);
+
+CREATE TABLE daily_status_counts (
+    status_day   DATE        NOT NULL,
+    status       VARCHAR(32) NOT NULL,
+    update_count BIGINT      NOT NULL,
+    CONSTRAINT pk_daily_status_counts PRIMARY KEY (status_day, status)
+);
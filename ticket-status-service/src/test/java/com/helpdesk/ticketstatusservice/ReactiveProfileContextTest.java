@@ -0,0 +1,93 @@
+package com.helpdesk.ticketstatusservice;
+
+import com.helpdesk.ticketstatusservice.dto.StatusHistoryResponse;
+import com.helpdesk.ticketstatusservice.dto.StatusUpdateRequest;
+import com.helpdesk.ticketstatusservice.event.TicketRegistry;
+import com.helpdesk.ticketstatusservice.model.TicketStatus;
+import com.helpdesk.ticketstatusservice.model.TicketStatusHistory;
+import com.helpdesk.ticketstatusservice.repository.TicketStatusHistoryRepository;
+import com.helpdesk.ticketstatusservice.service.ReactiveTicketStatusService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.TransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "ticket-events.replay-on-startup=false")
+@ActiveProfiles("reactive")
+class ReactiveProfileContextTest {
+
+    @Autowired
+    private TransactionManager transactionManager;
+
+    @Autowired
+    private PlatformTransactionManager platformTransactionManager;
+
+    @Autowired
+    private ReactiveTransactionManager reactiveTransactionManager;
+
+    @Autowired
+    private TicketRegistry ticketRegistry;
+
+    @Autowired
+    private ReactiveTicketStatusService reactiveTicketStatusService;
+
+    @Autowired
+    private TicketStatusHistoryRepository ticketStatusHistoryRepository;
+
+    @Test
+    void jpaTransactionManagerIsPrimary() {
+        assertThat(transactionManager).isInstanceOf(JpaTransactionManager.class);
+        assertThat(platformTransactionManager).isSameAs(transactionManager);
+        assertThat(reactiveTransactionManager).isInstanceOf(R2dbcTransactionManager.class);
+    }
+
+    @Test
+    void reactiveWritesAreVisibleToJpa() {
+        ticketRegistry.register(9001L, LocalDateTime.now().minusDays(1));
+        StatusUpdateRequest request = new StatusUpdateRequest();
+        request.setTicketId(9001L);
+        request.setStatus(TicketStatus.IN_PROGRESS);
+        request.setUpdatedBy("agent-1");
+
+        StatusHistoryResponse saved = reactiveTicketStatusService.updateTicketStatus(request)
+                .block(Duration.ofSeconds(10));
+
+        assertThat(saved).isNotNull();
+        assertThat(ticketStatusHistoryRepository.findByTicketIdOrderByUpdatedAtDesc(9001L))
+                .extracting(history -> history.getStatus())
+                .containsExactly(TicketStatus.IN_PROGRESS);
+    }
+
+    @Test
+    void reactiveAndJpaInsertsTakeSeparateIdBlocks() {
+        ticketRegistry.register(9002L, LocalDateTime.now().minusDays(1));
+        List<Long> reactiveIds = new ArrayList<>();
+        for (TicketStatus status : List.of(TicketStatus.IN_PROGRESS, TicketStatus.RESOLVED, TicketStatus.CLOSED)) {
+            StatusUpdateRequest request = new StatusUpdateRequest();
+            request.setTicketId(9002L);
+            request.setStatus(status);
+            request.setUpdatedBy("agent-1");
+            reactiveIds.add(reactiveTicketStatusService.updateTicketStatus(request).block(Duration.ofSeconds(10)).getId());
+        }
+        TicketStatusHistory jpaRow = ticketStatusHistoryRepository.saveAndFlush(
+                new TicketStatusHistory(null, 9002L, TicketStatus.OPEN, "agent-2", null));
+
+        // One sequence value covers the reactive rows, and JPA's block does not overlap theirs
+        assertThat(reactiveIds.get(1)).isEqualTo(reactiveIds.get(0) + 1);
+        assertThat(reactiveIds.get(2)).isEqualTo(reactiveIds.get(0) + 2);
+        assertThat(reactiveIds).doesNotContain(jpaRow.getId());
+        assertThat(ticketStatusHistoryRepository.findByTicketIdOrderByUpdatedAtDesc(9002L)).hasSize(4);
+    }
+}
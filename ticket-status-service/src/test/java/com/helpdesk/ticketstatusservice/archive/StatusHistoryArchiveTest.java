@@ -0,0 +1,67 @@
+package com.helpdesk.ticketstatusservice.archive;
+
+import com.helpdesk.ticketstatusservice.model.TicketStatus;
+import com.helpdesk.ticketstatusservice.model.TicketStatusHistory;
+import com.helpdesk.ticketstatusservice.repository.HistoryVersion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatusHistoryArchiveTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2024, 3, 1, 9, 0);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void latestRowAndVersionComeFromTheIndexAfterReopening() throws IOException {
+        StatusHistoryArchive archive = open();
+        archive.write(List.of(
+                row(101, 1, TicketStatus.OPEN, DAY),
+                row(102, 1, TicketStatus.CLOSED, DAY.plusHours(2)),
+                row(103, 2, TicketStatus.OPEN, DAY),
+                // Same time as the row before it, so the higher ID is the latest
+                row(105, 2, TicketStatus.IN_PROGRESS, DAY.plusHours(1)),
+                row(104, 2, TicketStatus.CLOSED, DAY.plusHours(1))));
+        // Ticket 1 reopened, closed again and archived by a later run
+        archive.write(List.of(
+                row(201, 1, TicketStatus.OPEN, DAY.plusDays(1)),
+                row(202, 1, TicketStatus.CLOSED, DAY.plusDays(2))));
+
+        StatusHistoryArchive reopened = open();
+
+        assertThat(reopened.findLatestByTicketId(1L)).get()
+                .extracting(TicketStatusHistory::getId, TicketStatusHistory::getStatus, TicketStatusHistory::getUpdatedAt)
+                .containsExactly(202L, TicketStatus.CLOSED, DAY.plusDays(2));
+        assertThat(reopened.findLatestByTicketId(2L)).get()
+                .extracting(TicketStatusHistory::getId, TicketStatusHistory::getStatus, TicketStatusHistory::getUpdatedBy)
+                .containsExactly(105L, TicketStatus.IN_PROGRESS, "agent-2");
+        assertThat(reopened.findLatestByTicketId(3L)).isEmpty();
+        assertThat(reopened.findLatestByTicketIdIn(List.of(1L, 2L, 3L)))
+                .extracting(TicketStatusHistory::getTicketId).containsExactly(1L, 2L);
+
+        assertThat(reopened.findHistoryVersion(1L)).isEqualTo(new HistoryVersion(4L, 202L));
+        assertThat(reopened.findHistoryVersion(2L)).isEqualTo(new HistoryVersion(3L, 105L));
+        assertThat(reopened.findHistoryVersion(3L)).isEqualTo(new HistoryVersion(0L, null));
+    }
+
+    private StatusHistoryArchive open() throws IOException {
+        StatusHistoryArchive archive = new StatusHistoryArchive(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(archive, "dir", dir.toString());
+        archive.open();
+        return archive;
+    }
+
+    private static TicketStatusHistory row(long id, long ticketId, TicketStatus status, LocalDateTime updatedAt) {
+        return new TicketStatusHistory(id, ticketId, status, "agent-" + ticketId, updatedAt);
+    }
+}
@@ -0,0 +1,82 @@
+package com.helpdesk.ticketstatusservice.client;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.helpdesk.common.client.PeerTransportProperties;
+import com.helpdesk.ticketstatusservice.dto.TicketResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TicketServiceClientTest {
+
+    @Test
+    void waitersGetTheLeadersErrorEvenWhenItIsNotARuntimeException() throws Exception {
+        CountDownLatch leaderCalling = new CountDownLatch(1);
+        CountDownLatch failLeader = new CountDownLatch(1);
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> Mono.fromCallable(() -> {
+                    leaderCalling.countDown();
+                    failLeader.await();
+                    throw new NoClassDefFoundError("com/helpdesk/Missing");
+                }))
+                .build();
+        PeerTransportProperties transport = new PeerTransportProperties();
+        transport.setCallDeadline(Duration.ofSeconds(30));
+        TicketServiceClient client = new TicketServiceClient(webClient,
+                Caffeine.newBuilder().recordStats().build(), new SimpleMeterRegistry(), transport);
+
+        CompletableFuture<TicketResponse> leader = CompletableFuture.supplyAsync(() -> client.getTicketById(1L));
+        assertThat(leaderCalling.await(10, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<TicketResponse> waiter = CompletableFuture.supplyAsync(() -> client.getTicketById(1L));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (client.getCacheStats().getCoalescedLookups() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(client.getCacheStats().getCoalescedLookups()).isEqualTo(1);
+        failLeader.countDown();
+
+        assertThatThrownBy(() -> waiter.get(10, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(NoClassDefFoundError.class);
+        assertThatThrownBy(() -> leader.get(10, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(NoClassDefFoundError.class);
+    }
+
+    @Test
+    void waiterGivesUpAfterTheCallDeadline() throws Exception {
+        CountDownLatch leaderCalling = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> Mono.fromCallable(() -> {
+                    leaderCalling.countDown();
+                    releaseLeader.await();
+                    throw new IllegalStateException("released");
+                }))
+                .build();
+        PeerTransportProperties transport = new PeerTransportProperties();
+        transport.setCallDeadline(Duration.ofMillis(200));
+        TicketServiceClient client = new TicketServiceClient(webClient,
+                Caffeine.newBuilder().recordStats().build(), new SimpleMeterRegistry(), transport);
+
+        CompletableFuture<TicketResponse> leader = CompletableFuture.supplyAsync(() -> client.getTicketById(2L));
+        try {
+            assertThat(leaderCalling.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThatThrownBy(() -> client.getTicketById(2L))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessageContaining("timed out");
+        } finally {
+            releaseLeader.countDown();
+        }
+        assertThatThrownBy(() -> leader.get(10, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+    }
+}
@@ -0,0 +1,29 @@
+package com.helpdesk.ticketstatusservice.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Records the SQL Hibernate sends, so the tests can EXPLAIN exactly what a repository method runs
+public class CapturingStatementInspector implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    static void clear() {
+        STATEMENTS.clear();
+    }
+
+    static String last() {
+        if (STATEMENTS.isEmpty()) {
+            throw new IllegalStateException("No statement was captured");
+        }
+        return STATEMENTS.get(STATEMENTS.size() - 1);
+    }
+}
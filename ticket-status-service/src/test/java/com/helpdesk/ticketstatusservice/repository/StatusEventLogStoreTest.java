@@ -0,0 +1,177 @@
+package com.helpdesk.ticketstatusservice.repository;
+
+import com.helpdesk.ticketstatusservice.model.TicketStatus;
+import com.helpdesk.ticketstatusservice.model.TicketStatusHistory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StatusEventLogStoreTest {
+
+    private static final String FIRST_SEGMENT = "0000000000.log";
+
+    @TempDir
+    Path dir;
+
+    private final List<StatusEventLogStore> opened = new ArrayList<>();
+
+    @AfterEach
+    void closeStores() throws InterruptedException {
+        for (StatusEventLogStore store : opened) {
+            store.close();
+        }
+    }
+
+    @Test
+    void replayRestoresHistoryAndContinuesTheIds() throws Exception {
+        StatusEventLogStore store = open(new SimpleMeterRegistry(), DataSize.ofMegabytes(1), Duration.ZERO);
+        store.saveAll(rows(1L, TicketStatus.OPEN, TicketStatus.IN_PROGRESS));
+        store.saveAll(rows(2L, TicketStatus.OPEN));
+        List<TicketStatusHistory> before = store.findByTicketIdOrderByUpdatedAtDesc(1L);
+        store.close();
+        opened.remove(store);
+
+        StatusEventLogStore reopened = open(new SimpleMeterRegistry(), DataSize.ofMegabytes(1), Duration.ZERO);
+
+        assertThat(reopened.findByTicketIdOrderByUpdatedAtDesc(1L)).isEqualTo(before);
+        assertThat(reopened.findByTicketIdOrderByUpdatedAtDesc(1L)).extracting(TicketStatusHistory::getStatus)
+                .containsExactly(TicketStatus.IN_PROGRESS, TicketStatus.OPEN);
+        assertThat(reopened.findFirstByTicketIdOrderByUpdatedAtDescIdDesc(2L))
+                .hasValueSatisfying(latest -> assertThat(latest.getId()).isEqualTo(3L));
+        assertThat(reopened.saveAll(rows(2L, TicketStatus.RESOLVED)).get(0).getId()).isEqualTo(4L);
+    }
+
+    @Test
+    void tornRecordAtTheTailEndsTheLog() throws Exception {
+        StatusEventLogStore store = open(new SimpleMeterRegistry(), DataSize.ofMegabytes(1), Duration.ZERO);
+        store.saveAll(rows(1L, TicketStatus.OPEN, TicketStatus.IN_PROGRESS, TicketStatus.RESOLVED));
+        store.close();
+        opened.remove(store);
+        // A write that reached the disk only partly: the third record's ticket ID no longer matches its checksum
+        try (RandomAccessFile file = new RandomAccessFile(dir.resolve(FIRST_SEGMENT).toFile(), "rw")) {
+            file.seek(2L * StatusEventLogStore.RECORD_SIZE + 8);
+            file.writeLong(42L);
+        }
+
+        StatusEventLogStore reopened = open(new SimpleMeterRegistry(), DataSize.ofMegabytes(1), Duration.ZERO);
+
+        assertThat(reopened.findByTicketIdOrderByUpdatedAtDesc(1L)).extracting(TicketStatusHistory::getStatus)
+                .containsExactly(TicketStatus.IN_PROGRESS, TicketStatus.OPEN);
+        assertThat(reopened.findByTicketIdOrderByUpdatedAtDesc(42L)).isEmpty();
+        assertThat(reopened.saveAll(rows(1L, TicketStatus.CLOSED)).get(0).getId()).isEqualTo(3L);
+    }
+
+    @Test
+    void appendsRollOverIntoNewSegments() throws Exception {
+        DataSize fourRecords = DataSize.ofBytes(4L * StatusEventLogStore.RECORD_SIZE);
+        StatusEventLogStore store = open(new SimpleMeterRegistry(), fourRecords, Duration.ZERO);
+        List<TicketStatusHistory> saved = new ArrayList<>();
+        for (long ticketId = 1; ticketId <= 10; ticketId++) {
+            saved.addAll(store.saveAll(rows(ticketId, TicketStatus.OPEN)));
+        }
+
+        assertThat(segmentFiles()).hasSize(3);
+        store.close();
+        opened.remove(store);
+
+        StatusEventLogStore reopened = open(new SimpleMeterRegistry(), fourRecords, Duration.ZERO);
+        try (Stream<TicketStatusHistory> exported = reopened.streamForExport(null)) {
+            assertThat(exported.toList()).isEqualTo(saved);
+        }
+        assertThat(reopened.saveAll(rows(11L, TicketStatus.OPEN)).get(0).getId()).isEqualTo(11L);
+        assertThat(segmentFiles()).hasSize(3);
+    }
+
+    @Test
+    void rejectedBatchLeavesTheLogUnchanged() throws Exception {
+        StatusEventLogStore store = open(new SimpleMeterRegistry(), DataSize.ofMegabytes(1), Duration.ZERO);
+        store.saveAll(rows(1L, TicketStatus.OPEN));
+        List<TicketStatusHistory> batch = rows(1L, TicketStatus.IN_PROGRESS);
+        batch.addAll(rows(null, TicketStatus.RESOLVED));
+
+        assertThatThrownBy(() -> store.saveAll(batch)).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(batch.get(0).getId()).isNull();
+        assertThat(store.findByTicketIdOrderByUpdatedAtDesc(1L)).extracting(TicketStatusHistory::getStatus)
+                .containsExactly(TicketStatus.OPEN);
+        assertThat(store.saveAll(rows(1L, TicketStatus.RESOLVED)).get(0).getId()).isEqualTo(2L);
+    }
+
+    @Test
+    void concurrentWritersShareOneSync() throws Exception {
+        int writers = 8;
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        StatusEventLogStore store = open(meterRegistry, DataSize.ofMegabytes(1), Duration.ofMillis(50));
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        try {
+            List<Future<List<TicketStatusHistory>>> results = new ArrayList<>();
+            for (long ticketId = 1; ticketId <= writers; ticketId++) {
+                long id = ticketId;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return store.saveAll(rows(id, TicketStatus.OPEN));
+                }));
+            }
+            start.countDown();
+            for (Future<List<TicketStatusHistory>> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS)).hasSize(1);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(meterRegistry.get("status.log.records.appended").functionCounter().count()).isEqualTo(writers);
+        assertThat(meterRegistry.get("status.log.syncs").functionCounter().count()).isLessThan(writers);
+    }
+
+    private StatusEventLogStore open(MeterRegistry meterRegistry, DataSize segmentSize, Duration groupCommitDelay)
+            throws IOException {
+        StatusEventLogStore store = new StatusEventLogStore(meterRegistry);
+        ReflectionTestUtils.setField(store, "dir", dir.toString());
+        ReflectionTestUtils.setField(store, "segmentSize", segmentSize);
+        ReflectionTestUtils.setField(store, "groupCommitDelay", groupCommitDelay);
+        store.open();
+        opened.add(store);
+        return store;
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.toList();
+        }
+    }
+
+    private static List<TicketStatusHistory> rows(Long ticketId, TicketStatus... statuses) {
+        List<TicketStatusHistory> rows = new ArrayList<>();
+        for (TicketStatus status : statuses) {
+            TicketStatusHistory row = new TicketStatusHistory();
+            row.setTicketId(ticketId);
+            row.setStatus(status);
+            row.setUpdatedBy("agent-1");
+            rows.add(row);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,76 @@
+package com.helpdesk.ticketstatusservice.repository;
+
+import com.helpdesk.ticketstatusservice.model.TicketStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Runs EXPLAIN on the SQL each query actually sends and checks the index H2 plans to use, so a
+// renamed column or a changed query shows up here instead of as a table scan in production
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.helpdesk.ticketstatusservice.repository.CapturingStatementInspector")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TicketStatusHistoryRepositoryIndexTest {
+
+    private static final int SEEDED_TICKETS = 5_000;
+    private static final LocalDateTime FROM = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Autowired
+    private TicketStatusHistoryRepository ticketStatusHistoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // The planner's choice between indexes depends on row counts and selectivity, so it plans against
+    // an analyzed table of a realistic shape rather than an empty one. ANALYZE commits, so the rows are
+    // seeded once, outside of the test transactions.
+    @BeforeEach
+    void seedHistory() {
+        CapturingStatementInspector.clear();
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ticket_status_history", Long.class) > 0) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>();
+        TicketStatus[] statuses = TicketStatus.values();
+        long id = 0;
+        for (long ticketId = 1; ticketId <= SEEDED_TICKETS; ticketId++) {
+            for (TicketStatus status : statuses) {
+                id++;
+                rows.add(new Object[]{id, ticketId, status.name(), "agent-" + id % 50, FROM.plusMinutes(id * 3)});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO ticket_status_history (id, ticket_id, status, updated_by, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?)", rows);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void findByTicketIdOrderByUpdatedAtDescUsesTicketIndex() {
+        ticketStatusHistoryRepository.findByTicketIdOrderByUpdatedAtDesc(1L);
+
+        assertThat(plan(1L)).contains("IDX_STATUS_HISTORY_TICKET_UPDATED");
+    }
+
+    @Test
+    void findByUpdatedAtBetweenUsesUpdatedAtIndex() {
+        LocalDateTime start = FROM.plusDays(2);
+        ticketStatusHistoryRepository.findByUpdatedAtBetween(start, start.plusDays(1));
+
+        assertThat(plan(start, start.plusDays(1))).contains("IDX_STATUS_HISTORY_UPDATED_AT");
+    }
+
+    private String plan(Object... parameters) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + CapturingStatementInspector.last(), String.class,
+                parameters).toUpperCase();
+    }
+}
@@ -0,0 +1,73 @@
+package com.helpdesk.ticketstatusservice.service;
+
+import com.helpdesk.ticketstatusservice.event.TicketRegistry;
+import com.helpdesk.ticketstatusservice.model.TicketStatus;
+import com.helpdesk.ticketstatusservice.repository.StatusHistoryStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.AopTestUtils;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.helpdesk.ticketstatusservice.service.TicketStatusServiceTest.request;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+
+@SpringBootTest(properties = {
+        "ticket-events.replay-on-startup=false",
+        "status-history.storage=log"})
+class TicketStatusServiceLogStorageTest {
+
+    @TempDir
+    static Path logDir;
+
+    @DynamicPropertySource
+    static void logDirectory(DynamicPropertyRegistry registry) {
+        registry.add("status-history.log.dir", logDir::toString);
+    }
+
+    @Autowired
+    private TicketStatusService ticketStatusService;
+
+    @Autowired
+    private StatusHistoryStore statusHistoryStore;
+
+    @Autowired
+    private TicketRegistry ticketRegistry;
+
+    @SpyBean
+    private StatusRollupService statusRollupService;
+
+    @Test
+    void batchUpdateAppendsToTheLog() {
+        ticketRegistry.register(201L, LocalDateTime.now());
+
+        ticketStatusService.updateTicketStatuses(List.of(request(201L, TicketStatus.OPEN),
+                request(201L, TicketStatus.IN_PROGRESS)));
+
+        assertThat(statusHistoryStore.findByTicketIdOrderByUpdatedAtDesc(201L))
+                .extracting(history -> history.getStatus())
+                .containsExactly(TicketStatus.IN_PROGRESS, TicketStatus.OPEN);
+    }
+
+    @Test
+    void failedCountersLeaveNothingInTheLog() {
+        ticketRegistry.register(202L, LocalDateTime.now());
+        // Stubbed on the spy behind the transactional proxy, which would otherwise demand a transaction
+        StatusRollupService spy = AopTestUtils.getTargetObject(statusRollupService);
+        doThrow(new IllegalStateException("counter update failed")).when(spy).recordAll(anyList());
+
+        assertThatThrownBy(() -> ticketStatusService.updateTicketStatus(request(202L, TicketStatus.RESOLVED)))
+                .hasMessage("counter update failed");
+        assertThat(statusHistoryStore.findByTicketIdOrderByUpdatedAtDesc(202L)).isEmpty();
+    }
+}
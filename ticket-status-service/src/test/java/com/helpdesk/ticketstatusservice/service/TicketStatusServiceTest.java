@@ -0,0 +1,68 @@
+package com.helpdesk.ticketstatusservice.service;
+
+import com.helpdesk.ticketstatusservice.dto.StatusHistoryResponse;
+import com.helpdesk.ticketstatusservice.dto.StatusUpdateBatchResponse;
+import com.helpdesk.ticketstatusservice.dto.StatusUpdateRequest;
+import com.helpdesk.ticketstatusservice.event.TicketRegistry;
+import com.helpdesk.ticketstatusservice.model.TicketStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "ticket-events.replay-on-startup=false")
+class TicketStatusServiceTest {
+
+    @Autowired
+    private TicketStatusService ticketStatusService;
+
+    @Autowired
+    private StatusRollupService statusRollupService;
+
+    @Autowired
+    private TicketRegistry ticketRegistry;
+
+    @Test
+    void updateSavesHistoryAndCountsIt() {
+        ticketRegistry.register(101L, LocalDateTime.now());
+        long resolvedBefore = resolvedToday();
+
+        StatusHistoryResponse response = ticketStatusService.updateTicketStatus(request(101L, TicketStatus.RESOLVED));
+
+        assertThat(response.getUpdatedAt()).isNotNull();
+        assertThat(ticketStatusService.getStatusHistory(101L)).hasSize(1);
+        assertThat(resolvedToday()).isEqualTo(resolvedBefore + 1);
+    }
+
+    @Test
+    void batchUpdateSavesAndCountsEveryRow() {
+        ticketRegistry.register(102L, LocalDateTime.now());
+        ticketRegistry.register(103L, LocalDateTime.now());
+        long resolvedBefore = resolvedToday();
+
+        StatusUpdateBatchResponse response = ticketStatusService.updateTicketStatuses(List.of(
+                request(102L, TicketStatus.RESOLVED), request(103L, TicketStatus.RESOLVED)));
+
+        assertThat(response.getResults()).allSatisfy(result -> assertThat(result.getHistory().getUpdatedAt()).isNotNull());
+        assertThat(resolvedToday()).isEqualTo(resolvedBefore + 2);
+    }
+
+    private long resolvedToday() {
+        LocalDate today = LocalDate.now();
+        return statusRollupService.getSummaries(today, today).get(0).getStatusCounts()
+                .getOrDefault(TicketStatus.RESOLVED.name(), 0L);
+    }
+
+    static StatusUpdateRequest request(Long ticketId, TicketStatus status) {
+        StatusUpdateRequest request = new StatusUpdateRequest();
+        request.setTicketId(ticketId);
+        request.setStatus(status);
+        request.setUpdatedBy("agent-1");
+        return request;
+    }
+}